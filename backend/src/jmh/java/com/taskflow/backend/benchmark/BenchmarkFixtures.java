@@ -0,0 +1,87 @@
+package com.taskflow.backend.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.taskflow.backend.config.JwtProperties;
+import com.taskflow.backend.mapper.ProjectMapper;
+import com.taskflow.backend.mapper.ProjectMapperImpl;
+import com.taskflow.backend.mapper.TaskMapperImpl;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserRole;
+
+/**
+ * Dados com o formato de uma página real da API: projetos com endereço completo e dezenas de tarefas.
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET_KEY = "dGFza2Zsb3ctdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODlhYmNkZWY=";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtProperties jwtProperties(long verifiedCacheSize) {
+        var properties = new JwtProperties();
+        properties.setSecretKey(SECRET_KEY);
+        properties.setExpiration(3_600_000);
+        properties.setVerifiedCacheSize(verifiedCacheSize);
+        return properties;
+    }
+
+    static User user() {
+        var user = new User();
+        user.setId(42L);
+        user.setName("Benchmark");
+        user.setEmail("benchmark@taskflow.com");
+        user.setRole(UserRole.USER);
+        return user;
+    }
+
+    // Fora do Spring, a dependência entre os mappers gerados precisa ser ligada à mão
+    static ProjectMapper projectMapper() {
+        var projectMapper = new ProjectMapperImpl();
+        ReflectionTestUtils.setField(projectMapper, "taskMapper", new TaskMapperImpl());
+        return projectMapper;
+    }
+
+    static List<Project> projects(int projects, int tasksPerProject) {
+        var result = new ArrayList<Project>(projects);
+        for (int i = 0; i < projects; i++) {
+            var project = new Project();
+            project.setId((long) i + 1);
+            project.setTitle("Projeto de implantação " + i);
+            project.setDescription("Migração do sistema legado para a nova plataforma, fase " + i);
+            project.setStatus(ProjectStatus.IN_PROGRESS);
+            project.setStartDate(LocalDate.of(2025, 1, 1).plusDays(i));
+            project.setEndDate(LocalDate.of(2025, 12, 31));
+            project.setCep("01001000");
+            project.setLogradouro("Praça da Sé");
+            project.setBairro("Sé");
+            project.setCidade("São Paulo");
+            project.setUf("SP");
+            project.setNumero(String.valueOf(100 + i));
+            project.setTasks(new ArrayList<>(tasksPerProject));
+            for (int j = 0; j < tasksPerProject; j++) {
+                var task = new Task();
+                task.setId((long) i * tasksPerProject + j + 1);
+                task.setTitle("Tarefa " + j + " do projeto " + i);
+                task.setDescription("Revisar requisitos, implementar e validar com o cliente");
+                task.setDueDate(LocalDate.of(2025, 2, 1).plusDays(j));
+                task.setPriority(TaskPriority.values()[j % TaskPriority.values().length]);
+                task.setStatus(TaskStatus.values()[j % TaskStatus.values().length]);
+                task.setProject(project);
+                project.getTasks().add(task);
+            }
+            result.add(project);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskflow.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.taskflow.backend.dto.ProjectResponseDTO;
+
+/**
+ * Serialização de uma lista de {@link ProjectResponseDTO} com o ObjectMapper padrão do Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    public int projects;
+
+    @Param({ "10" })
+    public int tasksPerProject;
+
+    private ObjectWriter writer;
+    private List<ProjectResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+        var projectMapper = BenchmarkFixtures.projectMapper();
+        page = BenchmarkFixtures.projects(projects, tasksPerProject).stream()
+                .map(projectMapper::toResponseDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeProjectPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(page);
+    }
+}
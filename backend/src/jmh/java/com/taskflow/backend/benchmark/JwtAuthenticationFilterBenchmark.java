@@ -0,0 +1,59 @@
+package com.taskflow.backend.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.taskflow.backend.config.JwtProperties;
+import com.taskflow.backend.security.JwtAuthenticationFilter;
+import com.taskflow.backend.security.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+
+/**
+ * Caminho rápido do filtro: token já verificado em cache e principal montado a partir das claims,
+ * sem acesso ao banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = BenchmarkFixtures.jwtProperties(10_000);
+        var jwtService = new JwtService(properties, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtService, username -> {
+            throw new UsernameNotFoundException(username);
+        }, properties);
+        authorization = "Bearer " + jwtService.generateToken(BenchmarkFixtures.user());
+    }
+
+    @Benchmark
+    public Object authenticate() throws ServletException, IOException {
+        var request = new MockHttpServletRequest("GET", "/api/projects");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
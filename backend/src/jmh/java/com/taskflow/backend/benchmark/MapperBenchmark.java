@@ -0,0 +1,59 @@
+package com.taskflow.backend.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.taskflow.backend.dto.ProjectResponseDTO;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.mapper.ProjectMapper;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.mapper.TaskMapperImpl;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+
+/**
+ * Conversão entidade → DTO de uma página de projetos com as tarefas, como em GET /api/projects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Param({ "20" })
+    public int projects;
+
+    @Param({ "10", "100" })
+    public int tasksPerProject;
+
+    private ProjectMapper projectMapper;
+    private TaskMapper taskMapper;
+    private List<Project> page;
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        projectMapper = BenchmarkFixtures.projectMapper();
+        taskMapper = new TaskMapperImpl();
+        page = BenchmarkFixtures.projects(projects, tasksPerProject);
+        tasks = page.get(0).getTasks();
+    }
+
+    @Benchmark
+    public List<ProjectResponseDTO> projectPage() {
+        return page.stream().map(projectMapper::toResponseDTO).toList();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> taskList() {
+        return taskMapper.toResponseDTO(tasks);
+    }
+}
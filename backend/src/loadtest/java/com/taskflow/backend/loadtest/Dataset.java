@@ -0,0 +1,9 @@
+package com.taskflow.backend.loadtest;
+
+import java.util.List;
+
+/**
+ * Massa gerada pelo {@link DatasetSeeder}: identificadores usados pelas operações da carga.
+ */
+record Dataset(List<String> emails, String password, List<Long> projectIds, List<String> ceps) {
+}
@@ -0,0 +1,108 @@
+package com.taskflow.backend.loadtest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserRole;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Popula o banco pelos repositórios da aplicação, com dados determinísticos a partir da semente.
+ * Rodar de novo contra o mesmo banco reaproveita a massa em vez de duplicá-la.
+ */
+@RequiredArgsConstructor
+final class DatasetSeeder {
+
+    static final String PASSWORD = "loadtest-senha";
+
+    // Salva em blocos para não acumular o grafo inteiro em um único contexto de persistência
+    private static final int CHUNK_SIZE = 500;
+    private static final int CEPS = 500;
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    Dataset seed(DatasetSize size) {
+        var random = new Random(size.seed());
+        var emails = IntStream.range(0, size.users())
+                .mapToObj(i -> "loadtest-" + size.seed() + "-" + i + "@taskflow.com")
+                .toList();
+        var ceps = IntStream.range(0, CEPS)
+                .mapToObj(i -> String.format("%08d", 1_000_000 + i * 997))
+                .toList();
+
+        if (userRepository.findByEmail(emails.get(0)).isPresent()) {
+            var projectIds = projectRepository.findAll(PageRequest.of(0, size.projects(), Sort.by("id")))
+                    .map(Project::getId)
+                    .toList();
+            return new Dataset(emails, PASSWORD, projectIds, ceps);
+        }
+
+        // BCrypt é caro de propósito: um único hash serve para todos os usuários
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        var users = emails.stream().map(email -> user(email, passwordHash)).toList();
+        userRepository.saveAll(users);
+
+        var projectIds = new ArrayList<Long>(size.projects());
+        var chunk = new ArrayList<Project>(CHUNK_SIZE);
+        for (int i = 0; i < size.projects(); i++) {
+            chunk.add(project(i, size.tasksPerProject(), ceps, random));
+            if (chunk.size() == CHUNK_SIZE || i == size.projects() - 1) {
+                projectRepository.saveAll(chunk).forEach(project -> projectIds.add(project.getId()));
+                chunk.clear();
+            }
+        }
+        return new Dataset(emails, PASSWORD, projectIds, ceps);
+    }
+
+    private static User user(String email, String passwordHash) {
+        var user = new User();
+        user.setEmail(email);
+        user.setName("Carga " + email.substring(0, email.indexOf('@')));
+        user.setPassword(passwordHash);
+        user.setRole(UserRole.USER);
+        return user;
+    }
+
+    private static Project project(int index, int tasks, List<String> ceps, Random random) {
+        var project = new Project();
+        project.setTitle("Projeto " + index);
+        project.setDescription("Projeto gerado para teste de carga");
+        project.setStatus(pick(ProjectStatus.values(), random));
+        project.setStartDate(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(730)));
+        project.setCep(ceps.get(random.nextInt(ceps.size())));
+        project.setNumero(String.valueOf(1 + random.nextInt(2_000)));
+        project.setTasks(new ArrayList<>(tasks));
+        for (int j = 0; j < tasks; j++) {
+            var task = new Task();
+            task.setTitle("Tarefa " + j + " do projeto " + index);
+            task.setDueDate(project.getStartDate().plusDays(random.nextInt(180)));
+            task.setPriority(pick(TaskPriority.values(), random));
+            task.setStatus(pick(TaskStatus.values(), random));
+            task.setProject(project);
+            project.getTasks().add(task);
+        }
+        return project;
+    }
+
+    private static <T> T pick(T[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
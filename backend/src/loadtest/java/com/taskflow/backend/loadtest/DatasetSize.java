@@ -0,0 +1,15 @@
+package com.taskflow.backend.loadtest;
+
+/**
+ * Volume da massa de dados; a mesma semente gera sempre os mesmos registros.
+ */
+record DatasetSize(int users, int projects, int tasksPerProject, long seed) {
+
+    static DatasetSize fromSystemProperties() {
+        return new DatasetSize(
+                Integer.getInteger("users", 50),
+                Integer.getInteger("projects", 1_000),
+                Integer.getInteger("tasksPerProject", 10),
+                Long.getLong("seed", 42));
+    }
+}
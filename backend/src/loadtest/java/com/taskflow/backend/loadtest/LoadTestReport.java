@@ -0,0 +1,107 @@
+package com.taskflow.backend.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Resultado de uma execução: configuração usada e percentis por operação. Gravado em JSON para
+ * comparar execuções, junto com a distribuição completa de cada operação em formato .hgrm.
+ */
+record LoadTestReport(String run, String java, Map<String, Object> config, List<OperationReport> operations) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    record OperationReport(String operation, long requests, long errors, long dropped, Map<Integer, Long> statuses,
+            double throughput, double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static OperationReport of(Operation operation, OperationStats stats, double seconds) {
+            Histogram histogram = stats.latencies();
+            var statuses = stats.statuses();
+            long errors = stats.failures() + statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() >= 400)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            return new OperationReport(operation.key(), histogram.getTotalCount(), errors, stats.dropped(), statuses,
+                    round(histogram.getTotalCount() / seconds),
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    round(histogram.getMaxValue() / 1_000.0));
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return round(histogram.getValueAtPercentile(percentile) / 1_000.0);
+        }
+    }
+
+    static LoadTestReport of(String run, Map<String, Object> config, Map<Operation, OperationStats> stats,
+            double seconds) {
+        var operations = new ArrayList<OperationReport>();
+        stats.forEach((operation, operationStats) ->
+                operations.add(OperationReport.of(operation, operationStats, seconds)));
+        return new LoadTestReport(run, Runtime.version().toString(), config, operations);
+    }
+
+    static LoadTestReport read(Path file) throws IOException {
+        return MAPPER.readValue(file.toFile(), LoadTestReport.class);
+    }
+
+    void write(Path directory, Map<Operation, OperationStats> stats) throws IOException {
+        Files.createDirectories(directory);
+        MAPPER.writeValue(directory.resolve("report.json").toFile(), this);
+        for (var entry : stats.entrySet()) {
+            try (var output = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().key() + ".hgrm")))) {
+                // Valores em microssegundos; a escala gera a distribuição em milissegundos
+                entry.getValue().latencies().outputPercentileDistribution(output, 1_000.0);
+            }
+        }
+    }
+
+    String summary() {
+        var text = new StringBuilder(String.format(Locale.ROOT, "%-14s %9s %7s %7s %9s %9s %9s %9s %9s%n",
+                "operação", "req", "erros", "desc.", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (var operation : operations) {
+            text.append(String.format(Locale.ROOT, "%-14s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.operation(), operation.requests(), operation.errors(), operation.dropped(),
+                    operation.throughput(), operation.p50Ms(), operation.p99Ms(), operation.p999Ms(),
+                    operation.maxMs()));
+        }
+        return text.toString();
+    }
+
+    String compareWith(LoadTestReport baseline) {
+        var text = new StringBuilder(String.format(Locale.ROOT, "Comparação com %s%n%-14s %12s %12s %12s%n",
+                baseline.run(), "operação", "req/s", "p99 ms", "p99.9 ms"));
+        for (var operation : operations) {
+            baseline.operations().stream()
+                    .filter(previous -> previous.operation().equals(operation.operation()))
+                    .findFirst()
+                    .ifPresent(previous -> text.append(String.format(Locale.ROOT, "%-14s %12s %12s %12s%n",
+                            operation.operation(),
+                            delta(previous.throughput(), operation.throughput()),
+                            delta(previous.p99Ms(), operation.p99Ms()),
+                            delta(previous.p999Ms(), operation.p999Ms()))));
+        }
+        return text.toString();
+    }
+
+    private static String delta(double before, double after) {
+        if (before == 0) {
+            return "n/a";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (after - before) / before * 100);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskflow.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.taskflow.backend.Application;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * Teste de carga ponta a ponta: sobe a aplicação, popula o banco, aplica uma carga mista na taxa
+ * alvo e grava o relatório da execução em {@code target/loadtest/run-<data>/}.
+ * <p>
+ * Sem argumentos usa o H2 da configuração de testes; argumentos são repassados ao Spring, por exemplo
+ * {@code -Dexec.args="--spring.datasource.url=jdbc:postgresql://localhost:5432/taskflow ..."}.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Drate=200 -Dduration=60 -Dprojects=5000 \
+ *     -Dmix=listProjects=50,listTasks=20,createTask=10,updateTask=10,cep=10 \
+ *     -Dbaseline=target/loadtest/run-20250101-120000/report.json
+ * </pre>
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        var size = DatasetSize.fromSystemProperties();
+        double rate = Double.parseDouble(System.getProperty("rate", "100"));
+        var warmup = Duration.ofSeconds(Long.getLong("warmup", 10));
+        var duration = Duration.ofSeconds(Long.getLong("duration", 30));
+        var cepLatency = Duration.ofMillis(Long.getLong("cepLatencyMs", 50));
+        var mix = Operation.parseMix(System.getProperty("mix"));
+
+        int status;
+        try (var viaCep = new ViaCepStub(cepLatency);
+                var context = new SpringApplicationBuilder(Application.class)
+                        .properties(
+                                "server.port=0",
+                                "logging.level.root=WARN",
+                                "application.cep.base-url=" + viaCep.baseUrl())
+                        .run(args)) {
+
+            var seeder = new DatasetSeeder(context.getBean(UserRepository.class),
+                    context.getBean(ProjectRepository.class), context.getBean(PasswordEncoder.class));
+            long seeding = System.nanoTime();
+            var dataset = seeder.seed(size);
+            System.out.printf("Massa pronta em %d ms: %s%n", (System.nanoTime() - seeding) / 1_000_000, size);
+
+            var userRepository = context.getBean(UserRepository.class);
+            var jwtService = context.getBean(JwtService.class);
+            var tokens = dataset.emails().stream()
+                    .map(email -> jwtService.generateToken(userRepository.findByEmail(email).orElseThrow()))
+                    .toList();
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            Map<Operation, OperationStats> stats;
+            try (var driver = new WorkloadDriver(baseUrl, dataset, tokens, mix)) {
+                stats = driver.run(rate, warmup, duration, size.seed());
+            }
+
+            var config = new LinkedHashMap<String, Object>();
+            config.put("rate", rate);
+            config.put("warmupSeconds", warmup.toSeconds());
+            config.put("durationSeconds", duration.toSeconds());
+            config.put("cepLatencyMs", cepLatency.toMillis());
+            config.put("dataset", size);
+            var weights = new LinkedHashMap<String, Integer>();
+            mix.forEach((operation, weight) -> weights.put(operation.key(), weight));
+            config.put("mix", weights);
+            config.put("args", args);
+
+            String run = "run-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            var report = LoadTestReport.of(run, config, stats, duration.toNanos() / 1e9);
+            var directory = Path.of("target", "loadtest", run);
+            report.write(directory, stats);
+
+            System.out.print(report.summary());
+            var baseline = System.getProperty("baseline");
+            if (baseline != null) {
+                System.out.print(report.compareWith(LoadTestReport.read(Path.of(baseline))));
+            }
+            System.out.println("Relatório gravado em " + directory);
+            status = 0;
+        }
+        System.exit(status);
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskflow.backend.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Operações da carga mista, com o peso padrão de cada uma no sorteio.
+ */
+enum Operation {
+    LOGIN("login", 5),
+    LIST_PROJECTS("listProjects", 40),
+    LIST_TASKS("listTasks", 15),
+    CREATE_TASK("createTask", 10),
+    UPDATE_TASK("updateTask", 10),
+    DELETE_TASK("deleteTask", 5),
+    CEP_LOOKUP("cep", 15);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Operation(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String key() {
+        return key;
+    }
+
+    /**
+     * Lê pesos no formato {@code listProjects=60,cep=40}; operações omitidas ficam com peso zero.
+     */
+    static Map<Operation, Integer> parseMix(String mix) {
+        var weights = new EnumMap<Operation, Integer>(Operation.class);
+        if (mix == null || mix.isBlank()) {
+            for (var operation : values()) {
+                weights.put(operation, operation.defaultWeight);
+            }
+            return weights;
+        }
+        for (var entry : mix.split(",")) {
+            var parts = entry.trim().split("=");
+            weights.put(fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static Operation fromKey(String key) {
+        for (var operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Operação desconhecida no mix: " + key);
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.backend.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latências (em microssegundos, com 3 dígitos significativos) e códigos de status de uma operação.
+ */
+final class OperationStats {
+
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    void record(int status, long latencyNanos) {
+        latencies.recordValue(Math.min(Math.max(1, latencyNanos / 1_000), latencies.getHighestTrackableValue()));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    // Erro de rede ou timeout: a requisição não chegou a ter status
+    void recordFailure(long latencyNanos) {
+        latencies.recordValue(Math.min(Math.max(1, latencyNanos / 1_000), latencies.getHighestTrackableValue()));
+        failures.increment();
+    }
+
+    // Requisição não enviada por excesso de requisições em andamento
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Histogram latencies() {
+        return latencies.copy();
+    }
+
+    Map<Integer, Long> statuses() {
+        var result = new TreeMap<Integer, Long>();
+        statuses.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,181 @@
+package com.taskflow.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.taskflow.backend.Application;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * Compara vazão e latência (p50/p99) com threads da plataforma e com threads virtuais,
+ * sob alta concorrência em um endpoint que acessa o banco.
+ * <p>
+ * Cada modo sobe a aplicação em uma porta livre, com o banco H2 da configuração de testes,
+ * e mantém {@code concurrency} clientes em laço fechado durante {@code duration} segundos.
+ * O modo virtual exige executar em JDK 21+; em versões anteriores é ignorado.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java -Dloadtest.main=com.taskflow.backend.loadtest.ThreadModeBenchmark \
+ *     -Dconcurrency=400 -Dduration=20
+ * </pre>
+ *
+ * O resultado é impresso e gravado em {@code target/loadtest/thread-modes.json}.
+ */
+public final class ThreadModeBenchmark {
+
+    private static final int PROJECTS = 200;
+    private static final int TASKS_PER_PROJECT = 5;
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("concurrency", 400);
+        int warmupSeconds = Integer.getInteger("warmup", 5);
+        int durationSeconds = Integer.getInteger("duration", 20);
+        String path = System.getProperty("path", "/api/projects?limit=20");
+
+        var results = new ArrayList<String>();
+        for (boolean virtual : new boolean[] { false, true }) {
+            if (virtual && Runtime.version().feature() < 21) {
+                System.out.println("Modo virtual ignorado: requer Java 21 (atual: " + Runtime.version() + ")");
+                continue;
+            }
+            try (var context = start(virtual)) {
+                String token = seed(context);
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+                run(baseUrl + path, token, concurrency, Duration.ofSeconds(warmupSeconds));
+                var result = run(baseUrl + path, token, concurrency, Duration.ofSeconds(durationSeconds));
+                results.add(result.toJson(virtual ? "virtual" : "platform", concurrency, path));
+                System.out.println(results.get(results.size() - 1));
+            }
+        }
+
+        var output = Path.of("target", "loadtest", "thread-modes.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, "[\n  " + String.join(",\n  ", results) + "\n]\n");
+        System.out.println("Resultados gravados em " + output);
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    private static String seed(ConfigurableApplicationContext context) {
+        var userRepository = context.getBean(UserRepository.class);
+        var seeder = new DatasetSeeder(userRepository, context.getBean(ProjectRepository.class),
+                context.getBean(PasswordEncoder.class));
+        var dataset = seeder.seed(new DatasetSize(1, PROJECTS, TASKS_PER_PROJECT, 42));
+
+        var user = userRepository.findByEmail(dataset.emails().get(0)).orElseThrow();
+        return context.getBean(JwtService.class).generateToken(user);
+    }
+
+    private static Result run(String url, String token, int concurrency, Duration duration) throws Exception {
+        var request = HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        var errors = new AtomicLong();
+        var latencies = new ArrayList<long[]>();
+        var futures = new ArrayList<Future<long[]>>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                var samples = new LongList();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    }
+                    samples.add(System.nanoTime() - start);
+                }
+                return samples.toArray();
+            }));
+        }
+        for (var future : futures) {
+            latencies.add(future.get());
+        }
+        clients.shutdownNow();
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.get(), duration);
+    }
+
+    private record Result(long[] sortedLatencies, long errors, Duration duration) {
+
+        double throughput() {
+            return sortedLatencies.length / (duration.toNanos() / 1e9);
+        }
+
+        double percentileMillis(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1e6;
+        }
+
+        String toJson(String mode, int concurrency, String path) {
+            return String.format(Locale.ROOT,
+                    "{\"mode\": \"%s\", \"java\": \"%s\", \"path\": \"%s\", \"concurrency\": %d, "
+                            + "\"requests\": %d, \"errors\": %d, \"throughput\": %.1f, "
+                            + "\"p50Ms\": %.2f, \"p99Ms\": %.2f, \"maxMs\": %.2f}",
+                    mode, Runtime.version(), path, concurrency, sortedLatencies.length, errors, throughput(),
+                    percentileMillis(50), percentileMillis(99), percentileMillis(100));
+        }
+    }
+
+    // Evita boxing de milhões de amostras
+    private static final class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.taskflow.backend.loadtest;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Gera carga em malha aberta: as requisições saem na taxa alvo independentemente das respostas,
+ * e a latência é medida a partir do instante em que cada uma deveria ter saído. Assim um servidor
+ * lento aparece nos percentis em vez de apenas reduzir a taxa enviada (coordinated omission).
+ */
+final class WorkloadDriver implements AutoCloseable {
+
+    private static final int MAX_IN_FLIGHT = 2_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ConnectionProvider connections = ConnectionProvider.builder("loadtest")
+            .maxConnections(MAX_IN_FLIGHT)
+            .pendingAcquireMaxCount(-1)
+            .build();
+    private final WebClient client;
+
+    private final Dataset dataset;
+    private final List<String> tokens;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+
+    // Tarefas criadas pela própria carga, alvo das atualizações e exclusões: {projectId, taskId}
+    private final Deque<long[]> createdTasks = new ConcurrentLinkedDeque<>();
+
+    WorkloadDriver(String baseUrl, Dataset dataset, List<String> tokens, Map<Operation, Integer> mix) {
+        this.dataset = dataset;
+        this.tokens = tokens;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("O mix de operações precisa de ao menos um peso positivo");
+        }
+        this.client = WebClient.builder()
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .clientConnector(new ReactorClientHttpConnector(
+                        HttpClient.create(connections).responseTimeout(REQUEST_TIMEOUT)))
+                .build();
+    }
+
+    Map<Operation, OperationStats> run(double rate, Duration warmup, Duration duration, long seed)
+            throws InterruptedException {
+
+        var stats = new EnumMap<Operation, OperationStats>(Operation.class);
+        for (var operation : mix.keySet()) {
+            stats.put(operation, new OperationStats());
+        }
+        var inFlight = new Semaphore(MAX_IN_FLIGHT);
+        var random = new Random(seed);
+
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long i = 0;; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            var operation = pick(random);
+            boolean measured = intended >= measureFrom;
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    stats.get(operation).recordDropped();
+                }
+                continue;
+            }
+            send(operation, random)
+                    .doFinally(signal -> inFlight.release())
+                    .subscribe(
+                            status -> {
+                                if (measured) {
+                                    stats.get(operation).record(status, System.nanoTime() - intended);
+                                }
+                            },
+                            error -> {
+                                if (measured) {
+                                    stats.get(operation).recordFailure(System.nanoTime() - intended);
+                                }
+                            });
+        }
+
+        // Espera as requisições em andamento para não perder a cauda da distribuição
+        if (inFlight.tryAcquire(MAX_IN_FLIGHT, REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            inFlight.release(MAX_IN_FLIGHT);
+        }
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        connections.dispose();
+    }
+
+    private Operation pick(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (var entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private Mono<Integer> send(Operation operation, Random random) {
+        String token = tokens.get(random.nextInt(tokens.size()));
+        long projectId = dataset.projectIds().get(random.nextInt(dataset.projectIds().size()));
+
+        return switch (operation) {
+            case LOGIN -> {
+                String email = dataset.emails().get(random.nextInt(dataset.emails().size()));
+                yield exchange(HttpMethod.POST, "/api/auth/authenticate", null,
+                        "{\"email\":\"" + email + "\",\"password\":\"" + dataset.password() + "\"}");
+            }
+            case LIST_PROJECTS -> exchange(HttpMethod.GET, "/api/projects?limit=20", token, null);
+            case LIST_TASKS -> exchange(HttpMethod.GET, "/api/projects/" + projectId + "/tasks?size=50", token, null);
+            case CREATE_TASK -> createTask(projectId, token, random);
+            case UPDATE_TASK -> {
+                var task = createdTasks.pollFirst();
+                if (task == null) {
+                    yield createTask(projectId, token, random);
+                }
+                createdTasks.addLast(task);
+                yield exchange(HttpMethod.PUT, "/api/projects/" + task[0] + "/tasks/" + task[1], token,
+                        taskJson(random, "IN_PROGRESS"));
+            }
+            case DELETE_TASK -> {
+                var task = createdTasks.pollFirst();
+                if (task == null) {
+                    yield createTask(projectId, token, random);
+                }
+                yield exchange(HttpMethod.DELETE, "/api/projects/" + task[0] + "/tasks/" + task[1], token, null);
+            }
+            case CEP_LOOKUP -> exchange(HttpMethod.GET,
+                    "/api/cep/search/" + dataset.ceps().get(random.nextInt(dataset.ceps().size())), null, null);
+        };
+    }
+
+    private Mono<Integer> createTask(long projectId, String token, Random random) {
+        return request(HttpMethod.POST, "/api/projects/" + projectId + "/tasks", token, taskJson(random, "TO_DO"))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() != 201) {
+                        return discard(response);
+                    }
+                    return response.bodyToMono(JsonNode.class)
+                            .doOnNext(body -> createdTasks.addLast(new long[] { projectId, body.get("id").asLong() }))
+                            .thenReturn(201);
+                });
+    }
+
+    private Mono<Integer> exchange(HttpMethod method, String path, String token, String body) {
+        return request(method, path, token, body).exchangeToMono(WorkloadDriver::discard);
+    }
+
+    private static Mono<Integer> discard(ClientResponse response) {
+        return response.releaseBody().thenReturn(response.statusCode().value());
+    }
+
+    private WebClient.RequestHeadersSpec<?> request(HttpMethod method, String path, String token, String body) {
+        var spec = client.method(method).uri(path);
+        if (token != null) {
+            spec.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return body == null ? spec : spec.bodyValue(body);
+    }
+
+    private static String taskJson(Random random, String status) {
+        return """
+                {"title":"Tarefa de carga %d","dueDate":"2025-06-01","priority":"MEDIUM","status":"%s"}
+                """.formatted(random.nextInt(1_000_000), status);
+    }
+}
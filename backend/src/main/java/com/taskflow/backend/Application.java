@@ -2,8 +2,10 @@ package com.taskflow.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+// O ConnectionFactory do caminho reativo é criado em ReactiveReadConfig, sem desligar o DataSource do JPA
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class Application {
 
 	public static void main(String[] args) {
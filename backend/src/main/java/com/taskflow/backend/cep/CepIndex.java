@@ -0,0 +1,111 @@
+package com.taskflow.backend.cep;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import com.taskflow.backend.dto.ViaCepResponseDTO;
+
+/**
+ * Índice binário de CEPs mapeado em memória, gerado pelo {@link CepIndexBuilder}.
+ *
+ * <pre>
+ * cabeçalho:  magic, versão, quantidade de registros, quantidade de strings (int cada)
+ * registros:  cep, logradouro, bairro, cidade, uf (int cada; ordenados por cep)
+ * strings:    offsets (int[quantidade + 1]) seguidos dos bytes UTF-8
+ * </pre>
+ *
+ * Os campos de texto guardam o índice na tabela de strings (deduplicada), ou -1 quando ausentes.
+ * A busca binária usa apenas leituras absolutas, então uma instância pode ser compartilhada entre threads.
+ */
+public final class CepIndex {
+
+    static final int MAGIC = 0x43455058; // "CEPX"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 4 * Integer.BYTES;
+    static final int FIELDS = 5;
+    static final int RECORD_BYTES = FIELDS * Integer.BYTES;
+    static final int NONE = -1;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int stringCount;
+    private final int offsetsStart;
+    private final int bytesStart;
+
+    private CepIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Arquivo não é um índice de CEP válido");
+        }
+        this.size = buffer.getInt(8);
+        this.stringCount = buffer.getInt(12);
+        // Contagens do cabeçalho em long: um arquivo corrompido não pode estourar int nem apontar além do fim
+        long offsets = HEADER_BYTES + (long) size * RECORD_BYTES;
+        long bytes = offsets + ((long) stringCount + 1) * Integer.BYTES;
+        if (size < 0 || stringCount < 0 || bytes > buffer.capacity()
+                || bytes + buffer.getInt((int) offsets + stringCount * Integer.BYTES) > buffer.capacity()) {
+            throw new IllegalArgumentException("Índice de CEP truncado ou corrompido");
+        }
+        this.offsetsStart = (int) offsets;
+        this.bytesStart = (int) bytes;
+    }
+
+    public static CepIndex open(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // O mapeamento continua válido depois que o canal é fechado
+            return new CepIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Optional<ViaCepResponseDTO> find(int cep) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int candidate = buffer.getInt(record(middle));
+            if (candidate < cep) {
+                low = middle + 1;
+            } else if (candidate > cep) {
+                high = middle - 1;
+            } else {
+                return Optional.of(toAddress(cep, record(middle)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private int record(int position) {
+        return HEADER_BYTES + position * RECORD_BYTES;
+    }
+
+    private ViaCepResponseDTO toAddress(int cep, int record) {
+        var digits = String.format("%08d", cep);
+        var address = new ViaCepResponseDTO();
+        address.setCep(digits.substring(0, 5) + "-" + digits.substring(5));
+        address.setLogradouro(string(buffer.getInt(record + 4)));
+        address.setBairro(string(buffer.getInt(record + 8)));
+        address.setLocalidade(string(buffer.getInt(record + 12)));
+        address.setUf(string(buffer.getInt(record + 16)));
+        return address;
+    }
+
+    private String string(int id) {
+        if (id == NONE) {
+            return null;
+        }
+        int start = buffer.getInt(offsetsStart + id * Integer.BYTES);
+        int end = buffer.getInt(offsetsStart + (id + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        buffer.get(bytesStart + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
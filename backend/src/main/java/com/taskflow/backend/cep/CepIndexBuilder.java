@@ -0,0 +1,185 @@
+package com.taskflow.backend.cep;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converte um CSV de CEPs no formato lido pelo {@link CepIndex}.
+ * <p>
+ * O CSV deve ter cabeçalho com as colunas {@code cep, logradouro, bairro, cidade, uf}, em qualquer ordem;
+ * outras colunas são ignoradas. O separador (vírgula ou ponto e vírgula) é detectado pelo cabeçalho.
+ * Em caso de CEP repetido, prevalece a última linha.
+ *
+ * <pre>
+ * java -cp target/classes com.taskflow.backend.cep.CepIndexBuilder ceps.csv ceps.idx
+ * </pre>
+ */
+public final class CepIndexBuilder {
+
+    private static final String[] COLUMNS = { "cep", "logradouro", "bairro", "cidade", "uf" };
+
+    private CepIndexBuilder() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: CepIndexBuilder <entrada.csv> <saida.idx>");
+            System.exit(2);
+        }
+        int records = build(Path.of(args[0]), Path.of(args[1]));
+        System.out.println(records + " CEPs gravados em " + args[1]);
+    }
+
+    public static int build(Path csv, Path output) throws IOException {
+        try (var reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8);
+                var out = Files.newOutputStream(output)) {
+            return build(reader, out);
+        }
+    }
+
+    public static int build(BufferedReader reader, OutputStream output) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV vazio");
+        }
+        char separator = header.indexOf(';') >= 0 ? ';' : ',';
+        int[] positions = columnPositions(parseLine(header.replace("\uFEFF", ""), separator));
+
+        var strings = new StringTable();
+        var records = new HashMap<Integer, int[]>();
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = parseLine(line, separator);
+            int[] record = new int[CepIndex.FIELDS];
+            record[0] = parseCep(value(values, positions[0]), lineNumber);
+            for (int field = 1; field < CepIndex.FIELDS; field++) {
+                record[field] = strings.id(value(values, positions[field]));
+            }
+            records.put(record[0], record);
+        }
+
+        int[][] sorted = records.values().toArray(int[][]::new);
+        Arrays.sort(sorted, (a, b) -> Integer.compare(a[0], b[0]));
+        write(sorted, strings, output);
+        return sorted.length;
+    }
+
+    private static void write(int[][] records, StringTable strings, OutputStream output) throws IOException {
+        var out = new DataOutputStream(new BufferedOutputStream(output));
+        out.writeInt(CepIndex.MAGIC);
+        out.writeInt(CepIndex.VERSION);
+        out.writeInt(records.length);
+        out.writeInt(strings.values.size());
+        for (int[] record : records) {
+            for (int field : record) {
+                out.writeInt(field);
+            }
+        }
+
+        List<byte[]> encoded = strings.values.stream()
+                .map(value -> value.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        int offset = 0;
+        out.writeInt(offset);
+        for (byte[] bytes : encoded) {
+            offset += bytes.length;
+            out.writeInt(offset);
+        }
+        for (byte[] bytes : encoded) {
+            out.write(bytes);
+        }
+        out.flush();
+    }
+
+    private static int[] columnPositions(List<String> header) {
+        int[] positions = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            positions[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (header.get(j).trim().equalsIgnoreCase(COLUMNS[i])) {
+                    positions[i] = j;
+                }
+            }
+            if (positions[i] < 0) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no CSV: " + COLUMNS[i]);
+            }
+        }
+        return positions;
+    }
+
+    private static int parseCep(String value, int lineNumber) {
+        String digits = value == null ? "" : value.replaceAll("\\D", "");
+        if (digits.length() != 8) {
+            throw new IllegalArgumentException("CEP inválido na linha " + lineNumber + ": " + value);
+        }
+        return Integer.parseInt(digits);
+    }
+
+    private static String value(List<String> values, int position) {
+        if (position >= values.size()) {
+            return null;
+        }
+        String value = values.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Campos entre aspas podem conter o separador; aspas duplicadas representam uma aspa literal
+    static List<String> parseLine(String line, char separator) {
+        var values = new ArrayList<String>();
+        var current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static final class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int id(String value) {
+            if (value == null) {
+                return CepIndex.NONE;
+            }
+            return ids.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.backend.cep;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.taskflow.backend.config.CepProperties;
+import com.taskflow.backend.dto.ViaCepResponseDTO;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * Chamada ao ViaCEP com prazo por tentativa, circuit breaker e, opcionalmente, requisição de reserva (hedge).
+ * Com o circuito aberto a chamada falha na hora com {@code CallNotPermittedException}.
+ * Latência e resultado das chamadas aparecem nas métricas resilience4j.circuitbreaker.*.
+ */
+@Component
+public class ViaCepClient {
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Duration requestTimeout;
+    private final Duration hedgeDelay;
+
+    public ViaCepClient(@Qualifier("viaCepWebClient") WebClient webClient, CircuitBreaker viaCepCircuitBreaker,
+            CepProperties properties) {
+        this.webClient = webClient;
+        this.circuitBreaker = viaCepCircuitBreaker;
+        this.requestTimeout = properties.getRequestTimeout();
+        this.hedgeDelay = properties.getHedgeDelay();
+    }
+
+    /**
+     * @return o endereço, ou vazio quando o ViaCEP informa que o CEP não existe
+     */
+    public Mono<Optional<ViaCepResponseDTO>> fetch(String cep) {
+        if (hedgeDelay == null) {
+            return attempt(cep);
+        }
+        // A primeira resposta bem-sucedida vence; a outra tentativa é cancelada
+        return Mono.firstWithValue(attempt(cep), Mono.delay(hedgeDelay).then(attempt(cep)));
+    }
+
+    private Mono<Optional<ViaCepResponseDTO>> attempt(String cep) {
+        return webClient.get()
+                .uri("/{cep}/json", cep)
+                .retrieve()
+                .bodyToMono(ViaCepResponseDTO.class)
+                .map(response -> response.isHasError()
+                        ? Optional.<ViaCepResponseDTO>empty()
+                        : Optional.of(response))
+                .defaultIfEmpty(Optional.empty())
+                .timeout(requestTimeout)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+}
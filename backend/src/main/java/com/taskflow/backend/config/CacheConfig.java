@@ -0,0 +1,72 @@
+package com.taskflow.backend.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.User;
+
+/**
+ * Cache de segundo nível do Hibernate (JCache sobre Caffeine).
+ * As regiões usam READ_WRITE e são invalidadas pelo próprio Hibernate nas escritas,
+ * inclusive nos UPDATE em lote; o TTL só limita a defasagem diante de alterações feitas fora da aplicação.
+ * As taxas de acerto aparecem em hibernate.second.level.cache.requests (Micrometer).
+ */
+@Configuration
+public class CacheConfig {
+
+    private record Region(String name, long maximumSize, Duration timeToLive) {
+    }
+
+    private static final List<Region> REGIONS = List.of(
+            new Region(Project.CACHE_REGION, 10_000, Duration.ofMinutes(30)),
+            new Region(Project.TASKS_CACHE_REGION, 10_000, Duration.ofMinutes(30)),
+            new Region(Task.CACHE_REGION, 50_000, Duration.ofMinutes(30)),
+            new Region(User.CACHE_REGION, 5_000, Duration.ofMinutes(10)),
+            new Region(User.EMAIL_CACHE_REGION, 5_000, Duration.ofMinutes(10)));
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // URI exclusiva: o provider compartilha gerenciadores por URI, e cada contexto precisa do seu
+        var cacheManager = provider.getCacheManager(
+                URI.create("taskflow-l2-" + UUID.randomUUID()), CacheConfig.class.getClassLoader());
+
+        for (Region region : REGIONS) {
+            var configuration = new CaffeineConfiguration<Object, Object>();
+            configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region.name(), configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Toda região precisa estar declarada acima, com tamanho e TTL definidos
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Inserir ou remover uma Task invalida a coleção Project.tasks em cache
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskflow.backend.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.taskflow.backend.cep.CepIndex;
+
+@Configuration
+@ConditionalOnProperty("application.cep.offline-index")
+public class CepIndexConfig {
+
+    @Bean
+    public CepIndex cepIndex(CepProperties properties) throws IOException {
+        return CepIndex.open(Path.of(properties.getOfflineIndex()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "application.cep")
+@Data
+public class CepProperties {
+    private String baseUrl = "https://viacep.com.br/ws/";
+
+    // Índice local gerado pelo CepIndexBuilder; consultado antes de qualquer cache
+    private String offlineIndex;
+
+    // false: atende apenas pelo índice local e caches, sem acessar o ViaCEP
+    private boolean remoteEnabled = true;
+
+    // Cache em memória
+    private long cacheMaximumSize = 10_000;
+    private Duration cacheTtl = Duration.ofHours(24);
+
+    // Tabela cep_cache: endereços quase nunca mudam
+    private Duration storeTtl = Duration.ofDays(30);
+
+    // CEP inexistente pode passar a existir; vale para as duas camadas e para respostas antigas
+    // servidas enquanto o ViaCEP está indisponível
+    private Duration notFoundTtl = Duration.ofHours(1);
+
+    // Cliente HTTP do ViaCEP
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration requestTimeout = Duration.ofSeconds(2);
+    private int maxConnections = 50;
+    private int pendingAcquireMaxCount = 200;
+    private Duration pendingAcquireTimeout = Duration.ofMillis(500);
+
+    // Se definido, dispara uma segunda requisição quando a primeira não responde nesse prazo
+    private Duration hedgeDelay;
+
+    // Circuit breaker: abre quando a taxa de falhas da janela passa do limite
+    private float failureRateThreshold = 50;
+    private int slidingWindowSize = 20;
+    private int minimumNumberOfCalls = 10;
+    private Duration openStateDuration = Duration.ofSeconds(30);
+
+    // POST /api/cep/search:batch
+    private int batchMaxSize = 100;
+    private int batchConcurrency = 8;
+}
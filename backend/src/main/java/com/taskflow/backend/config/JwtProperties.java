@@ -10,5 +10,14 @@ import lombok.Data;
 @Data
 public class JwtProperties {
     private String secretKey;
+    // Validade do access token (ms); deve ser curta, já que ele não pode ser revogado
     private long expiration;
+    // Validade do refresh token (ms)
+    private long refreshExpiration = 30L * 24 * 60 * 60 * 1000;
+    // Intervalo (ms) após a troca em que reapresentar o token antigo é tratado como corrida entre abas, não roubo
+    private long refreshReuseGrace = 10_000;
+    // false: carrega o usuário a cada requisição (revogação imediata, ao custo de uma consulta)
+    private boolean stateless = true;
+    // Tokens verificados recentemente, mantidos até expirarem
+    private long verifiedCacheSize = 10_000;
 }
@@ -0,0 +1,13 @@
+package com.taskflow.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Padrões de observabilidade: endpoint /actuator/prometheus e histogramas das requisições HTTP.
+ * Por ser um {@code @PropertySource}, tem precedência menor que application.properties e variáveis de ambiente.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+}
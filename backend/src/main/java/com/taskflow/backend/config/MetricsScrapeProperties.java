@@ -0,0 +1,29 @@
+package com.taskflow.backend.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "application.metrics")
+@Data
+public class MetricsScrapeProperties {
+
+    public static final String SCRAPE_PATH = "/actuator/prometheus";
+
+    // Token Bearer exigido do Prometheus (authorization.credentials); sem ele o endpoint fica fechado
+    private String scrapeToken;
+
+    public boolean accepts(String authorizationHeader) {
+        if (scrapeToken == null || scrapeToken.isBlank() || authorizationHeader == null) {
+            return false;
+        }
+        // Comparação em tempo constante
+        return MessageDigest.isEqual(("Bearer " + scrapeToken).getBytes(StandardCharsets.UTF_8),
+                authorizationHeader.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "application.security.password")
+@Data
+public class PasswordProperties {
+    // Custo do BCrypt; senhas com custo menor são refeitas no próximo login
+    private int strength = 10;
+
+    // Threads dedicadas ao BCrypt; por padrão, uma por núcleo
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Hashes aguardando thread; acima disso a requisição recebe 429
+    private int queueCapacity = 64;
+
+    // Espera máxima por um hash (fila + cálculo); acima disso a requisição recebe 503
+    private Duration maxWait = Duration.ofSeconds(5);
+}
@@ -0,0 +1,12 @@
+package com.taskflow.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Padrões do servidor para conexões SSE de longa duração; application.properties pode sobrescrevê-los.
+ */
+@Configuration
+@PropertySource("classpath:events.properties")
+public class ProjectEventsConfig {
+}
@@ -0,0 +1,18 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "application.events")
+@Data
+public class ProjectEventsProperties {
+    // Eventos pendentes por conexão; ao estourar, o assinante é desconectado
+    private int bufferSize = 256;
+    // Comentário SSE periódico: mantém proxies abertos e revela conexões que pararam de consumir
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
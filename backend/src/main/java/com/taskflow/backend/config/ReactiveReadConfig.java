@@ -0,0 +1,65 @@
+package com.taskflow.backend.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import com.taskflow.backend.repository.reactive.ProjectReadRepository;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+
+/**
+ * Caminho de leitura reativo das listagens de projetos e tarefas, ativado por
+ * {@code application.reactive.enabled=true} e conectado ao mesmo banco via {@code spring.r2dbc.*}.
+ * <p>
+ * O pool não é publicado como bean: um {@code ConnectionFactory} no contexto faz o Spring Boot
+ * desistir do DataSource, e as escritas continuam no JPA. O template e os repositórios R2DBC
+ * são montados pela auto-configuração a partir do {@link DatabaseClient}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.reactive", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(R2dbcProperties.class)
+@EnableR2dbcRepositories(basePackageClasses = ProjectReadRepository.class)
+public class ReactiveReadConfig implements DisposableBean {
+
+    private final ConnectionPool pool;
+
+    public ReactiveReadConfig(R2dbcProperties properties) {
+        if (!StringUtils.hasText(properties.getUrl())) {
+            throw new IllegalStateException("spring.r2dbc.url é obrigatória com application.reactive.enabled=true");
+        }
+        var builder = ConnectionFactoryBuilder.withUrl(properties.getUrl());
+        var map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+        map.from(properties::getUsername).to(builder::username);
+        map.from(properties::getPassword).to(builder::password);
+
+        var poolProperties = properties.getPool();
+        var configuration = ConnectionPoolConfiguration.builder(builder.build());
+        map.from(poolProperties::getInitialSize).to(configuration::initialSize);
+        map.from(poolProperties::getMaxSize).to(configuration::maxSize);
+        map.from(poolProperties::getMaxIdleTime).to(configuration::maxIdleTime);
+        map.from(poolProperties::getMaxAcquireTime).to(configuration::maxAcquireTime);
+        map.from(poolProperties::getValidationDepth).to(configuration::validationDepth);
+        map.from(poolProperties::getValidationQuery).whenHasText().to(configuration::validationQuery);
+        this.pool = new ConnectionPool(configuration.build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(pool);
+    }
+
+    @Override
+    public void destroy() {
+        pool.dispose();
+    }
+}
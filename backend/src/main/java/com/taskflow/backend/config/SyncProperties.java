@@ -0,0 +1,17 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "application.sync")
+@Data
+public class SyncProperties {
+    // Revisões são atribuídas antes do commit: o cursor só avança sobre escritas mais antigas que esta janela,
+    // para não pular uma transação com revisão menor que ainda não havia sido confirmada
+    private Duration settleWindow = Duration.ofSeconds(5);
+}
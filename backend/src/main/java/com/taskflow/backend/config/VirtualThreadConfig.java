@@ -0,0 +1,53 @@
+package com.taskflow.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Ajustes para o modo com threads virtuais ({@code spring.threads.virtual.enabled=true}, Java 21+).
+ * O Spring Boot já atende as requisições do Tomcat e executa as tarefas assíncronas em threads virtuais;
+ * aqui o acesso ao pool JDBC passa a ser limitado pelo tamanho do próprio pool.
+ */
+@Configuration
+@ConditionalOnProperty("spring.threads.virtual.enabled")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static ConnectionLimitingPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new ConnectionLimitingPostProcessor(environment);
+    }
+
+    // Ordenado para envolver o Hikari antes do proxy de métricas (DataSourceProxyConfig)
+    static class ConnectionLimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        ConnectionLimitingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                // Mesmo prazo que o Hikari usaria para entregar uma conexão
+                var acquireTimeout = environment.getProperty("application.datasource.acquire-timeout",
+                        Duration.class, Duration.ofMillis(hikari.getConnectionTimeout()));
+                return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+            }
+            return bean;
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.taskflow.backend.controller;
 
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.taskflow.backend.config.CepProperties;
+import com.taskflow.backend.dto.CepBatchResultDTO;
 import com.taskflow.backend.dto.ViaCepResponseDTO;
 import com.taskflow.backend.service.CepService;
 
@@ -18,6 +26,7 @@ import reactor.core.publisher.Mono;
 public class CepController {
 
     private final CepService cepService;
+    private final CepProperties cepProperties;
 
     @GetMapping("/search/{cep}")
     public Mono<ResponseEntity<ViaCepResponseDTO>> searchCep(@PathVariable String cep) {
@@ -25,4 +34,13 @@ public class CepController {
                 .map(ResponseEntity::ok)
                 .defaultIfEmpty(ResponseEntity.notFound().build()); // Retorna 404 se não encontrar
     }
-}
\ No newline at end of file
+
+    @PostMapping("/search:batch")
+    public Mono<List<CepBatchResultDTO>> searchCeps(@RequestBody List<String> ceps) {
+        if (ceps.size() > cepProperties.getBatchMaxSize()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Máximo de " + cepProperties.getBatchMaxSize() + " CEPs por requisição");
+        }
+        return cepService.searchCeps(ceps).collectList();
+    }
+}
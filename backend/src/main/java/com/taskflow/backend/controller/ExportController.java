@@ -0,0 +1,52 @@
+package com.taskflow.backend.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.backend.service.ExportFormat;
+import com.taskflow.backend.service.ExportService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/projects")
+    public void exportProjects(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        var exportFormat = ExportFormat.parse(format);
+        prepare(response, exportFormat, "projects");
+
+        exportService.exportProjects(exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/tasks")
+    public void exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        var exportFormat = ExportFormat.parse(format);
+        prepare(response, exportFormat, "tasks");
+
+        exportService.exportTasks(exportFormat, response.getOutputStream());
+    }
+
+    private void prepare(HttpServletResponse response, ExportFormat format, String name) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+    }
+}
@@ -2,8 +2,8 @@ package com.taskflow.backend.controller;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,12 +13,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.taskflow.backend.dto.CursorPageResponseDTO;
 import com.taskflow.backend.dto.ProjectRequestDTO;
 import com.taskflow.backend.dto.ProjectResponseDTO;
+import com.taskflow.backend.dto.ProjectStatsDTO;
 import com.taskflow.backend.mapper.ProjectMapper;
+import com.taskflow.backend.service.ETags;
 import com.taskflow.backend.service.ProjectService;
+import com.taskflow.backend.service.ProjectStatsService;
 
 import jakarta.validation.Valid;
 import lombok.NonNull;
@@ -29,10 +35,13 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final ProjectMapper projectMapper;
+    private final ProjectStatsService projectStatsService;
 
-    public ProjectController(ProjectService projectService, ProjectMapper projectMapper) {
+    public ProjectController(ProjectService projectService, ProjectMapper projectMapper,
+            ProjectStatsService projectStatsService) {
         this.projectService = projectService;
         this.projectMapper = projectMapper;
+        this.projectStatsService = projectStatsService;
     }
 
     @PostMapping
@@ -50,40 +59,87 @@ public class ProjectController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ProjectResponseDTO>> getAllProjects() {
+    public ResponseEntity<CursorPageResponseDTO<?>> getAllProjects(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include) {
 
-        var projects = projectService.findAllProjects();
+        if (fields != null) {
+            return ResponseEntity.ok(projectService.findProjectFieldsPage(after, limit, fields, include));
+        }
 
-        var responseDTOs = projects.stream()
-                .map(projectMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        var page = projectService.findProjectsPage(after, limit);
 
-        return ResponseEntity.ok(responseDTOs);
+        var responseDTO = page.map(projectMapper::toResponseDTO);
+
+        return ResponseEntity.ok(responseDTO);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable @NonNull Long id) {
-
-        var project = projectService.findProjectById(id)
+    public ResponseEntity<?> getProjectById(
+            @PathVariable @NonNull Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String include,
+            WebRequest request) {
+
+        if (fields != null) {
+            var project = projectService.findProjectFieldsById(id, fields, include)
+                    .orElseThrow(() -> new RuntimeException("Projeto não encontrado com ID: " + id));
+            return ResponseEntity.ok(project);
+        }
+
+        // Revalidação por consulta agregada: o 304 não carrega nem serializa o projeto
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var current = projectService.findVersionById(id)
+                    .orElseThrow(() -> new RuntimeException("Projeto não encontrado com ID: " + id));
+            if (request.checkNotModified(ETags.forProject(current))) {
+                return null;
+            }
+        }
+
+        var project = projectService.findProjectWithTasksById(id)
                 .orElseThrow(() -> new RuntimeException("Projeto não encontrado com ID: " + id));
 
         var responseDTO = projectMapper.toResponseDTO(project);
 
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok().eTag(ETags.forProject(project)).body(responseDTO);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<ProjectStatsDTO>> getProjectsStats(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(projectStatsService.statsForProjects(ids));
+    }
+
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ProjectStatsDTO> getProjectStats(@PathVariable @NonNull Long id) {
+        return ResponseEntity.ok(projectStatsService.statsForProject(id));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ProjectResponseDTO> updateProject(
             @PathVariable @NonNull Long id,
-            @Valid @RequestBody ProjectRequestDTO projectDTO) {
+            @Valid @RequestBody ProjectRequestDTO projectDTO,
+            WebRequest request) {
+
+        Long expectedVersion = null;
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            var current = projectService.findVersionById(id)
+                    .orElseThrow(() -> new RuntimeException("Projeto não encontrado com ID: " + id));
+            // Responde 412 quando o ETag informado não é o atual
+            if (request.checkNotModified(ETags.forProject(current))) {
+                return null;
+            }
+            expectedVersion = current.getVersion();
+        }
 
         var projectDetails = projectMapper.toEntity(projectDTO);
 
-        var updatedProject = projectService.updateProject(id, projectDetails);
+        var updatedProject = projectService.updateProject(id, projectDetails, expectedVersion);
 
         var responseDTO = projectMapper.toResponseDTO(updatedProject);
 
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok().eTag(ETags.forProject(updatedProject)).body(responseDTO);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,36 @@
+package com.taskflow.backend.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.backend.events.ProjectEventBroadcaster;
+import com.taskflow.backend.service.ProjectService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RestController
+@RequestMapping("/api/projects")
+@RequiredArgsConstructor
+public class ProjectEventsController {
+
+    private final ProjectService projectService;
+    private final ProjectEventBroadcaster broadcaster;
+
+    /**
+     * Alterações do projeto via SSE; o id de cada evento é a revisão da alteração. Eventos perdidos
+     * (reconexão ou desconexão por lentidão) são recuperados em /api/sync?since=&lt;último id&gt;.
+     */
+    @GetMapping(value = "/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamEvents(@PathVariable @NonNull Long projectId) {
+        if (!projectService.existsById(projectId)) {
+            throw new RuntimeException("Projeto não encontrado com ID: " + projectId);
+        }
+        return broadcaster.subscribe(projectId);
+    }
+}
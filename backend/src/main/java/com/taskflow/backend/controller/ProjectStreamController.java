@@ -0,0 +1,44 @@
+package com.taskflow.backend.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.taskflow.backend.dto.ProjectResponseDTO;
+import com.taskflow.backend.dto.TaskFilterDTO;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.service.ProjectReadService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Listagens de {@link ProjectController} e {@link TaskController} em NDJSON, atendidas pelo
+ * caminho reativo quando o cliente envia {@code Accept: application/x-ndjson}.
+ */
+@RestController
+@RequestMapping("/api/projects")
+@ConditionalOnProperty(prefix = "application.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ProjectStreamController {
+
+    private final ProjectReadService projectReadService;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ProjectResponseDTO> streamProjects(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+
+        return projectReadService.streamProjects(after, limit);
+    }
+
+    @GetMapping(value = "/{projectId}/tasks", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponseDTO> streamTasks(@PathVariable @NonNull Long projectId, TaskFilterDTO filter) {
+        return projectReadService.streamTasks(projectId, filter);
+    }
+}
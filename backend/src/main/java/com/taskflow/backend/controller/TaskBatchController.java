@@ -0,0 +1,170 @@
+package com.taskflow.backend.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.dto.TaskBatchItemResultDTO;
+import com.taskflow.backend.dto.TaskBatchResponseDTO;
+import com.taskflow.backend.dto.TaskBatchUpdateDTO;
+import com.taskflow.backend.dto.TaskBatchUpdateResponseDTO;
+import com.taskflow.backend.dto.TaskBatchUpdateResultDTO;
+import com.taskflow.backend.dto.TaskRequestDTO;
+import com.taskflow.backend.dto.TaskTransitionRequestDTO;
+import com.taskflow.backend.dto.TaskTransitionResponseDTO;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.service.TaskService;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+
+// Operações em lote ficam fora do TaskController porque usam sufixos (":batch", ":transition") no mesmo segmento
+@RestController
+@RequestMapping("/api/projects/{projectId}")
+public class TaskBatchController {
+
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private final TaskService taskService;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+
+    public TaskBatchController(TaskService taskService, TaskMapper taskMapper, Validator validator) {
+        this.taskService = taskService;
+        this.taskMapper = taskMapper;
+        this.validator = validator;
+    }
+
+    @PostMapping("/tasks:batch")
+    public ResponseEntity<TaskBatchResponseDTO> createTasks(
+            @PathVariable @NonNull Long projectId,
+            @RequestBody List<TaskRequestDTO> taskDTOs) {
+
+        checkBatchSize(taskDTOs);
+
+        var results = new ArrayList<TaskBatchItemResultDTO>(taskDTOs.size());
+        var validIndexes = new ArrayList<Integer>();
+        var validTasks = new ArrayList<Task>();
+
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            var taskDTO = taskDTOs.get(i);
+            var errors = validate(taskDTO);
+
+            if (!errors.isEmpty()) {
+                results.add(new TaskBatchItemResultDTO(i, false, null, errors));
+            } else {
+                results.add(null);
+                validIndexes.add(i);
+                validTasks.add(taskMapper.toEntity(taskDTO));
+            }
+        }
+
+        var createdTasks = validTasks.isEmpty() ? List.<Task>of() : taskService.createTasks(projectId, validTasks);
+
+        for (int i = 0; i < createdTasks.size(); i++) {
+            int index = validIndexes.get(i);
+            results.set(index, new TaskBatchItemResultDTO(index, true, taskMapper.toResponseDTO(createdTasks.get(i)), null));
+        }
+
+        int failed = taskDTOs.size() - createdTasks.size();
+        var responseDTO = new TaskBatchResponseDTO(createdTasks.size(), failed, results);
+
+        return new ResponseEntity<>(responseDTO, failed == 0 ? HttpStatus.CREATED : HttpStatus.OK);
+    }
+
+    @PutMapping("/tasks:batch")
+    public ResponseEntity<TaskBatchUpdateResponseDTO> updateTasks(
+            @PathVariable @NonNull Long projectId,
+            @RequestBody List<TaskBatchUpdateDTO> taskDTOs) {
+
+        checkBatchSize(taskDTOs);
+
+        var results = new ArrayList<TaskBatchUpdateResultDTO>(taskDTOs.size());
+        var indexById = new LinkedHashMap<Long, Integer>();
+        var changes = new HashMap<Long, Task>();
+        var expectedVersions = new HashMap<Long, Long>();
+        var seenIds = new HashSet<Long>();
+
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            var taskDTO = taskDTOs.get(i);
+            var errors = validate(taskDTO);
+
+            if (errors.isEmpty() && !seenIds.add(taskDTO.getId())) {
+                errors = List.of("id: tarefa repetida no lote.");
+            }
+            if (!errors.isEmpty()) {
+                results.add(new TaskBatchUpdateResultDTO(i, false, null, errors));
+                continue;
+            }
+            results.add(null);
+            indexById.put(taskDTO.getId(), i);
+            changes.put(taskDTO.getId(), taskMapper.toEntity(taskDTO));
+            if (taskDTO.getVersion() != null) {
+                expectedVersions.put(taskDTO.getId(), taskDTO.getVersion());
+            }
+        }
+
+        var batch = changes.isEmpty()
+                ? new TaskService.BatchUpdate(Map.of(), Set.of())
+                : taskService.updateTasks(projectId, changes, expectedVersions);
+
+        indexById.forEach((id, index) -> {
+            var task = batch.updated().get(id);
+            if (task != null) {
+                results.set(index, new TaskBatchUpdateResultDTO(index, true, taskMapper.toResponseDTO(task), null));
+            } else if (batch.conflicts().contains(id)) {
+                results.set(index, new TaskBatchUpdateResultDTO(index, false, null,
+                        List.of("version: tarefa alterada desde a versão informada.")));
+            } else {
+                results.set(index, new TaskBatchUpdateResultDTO(index, false, null,
+                        List.of("id: tarefa não encontrada no projeto.")));
+            }
+        });
+
+        int updated = batch.updated().size();
+        return ResponseEntity.ok(new TaskBatchUpdateResponseDTO(updated, taskDTOs.size() - updated, results));
+    }
+
+    @PostMapping("/tasks:transition")
+    public ResponseEntity<TaskTransitionResponseDTO> transitionTasks(
+            @PathVariable @NonNull Long projectId,
+            @Valid @RequestBody TaskTransitionRequestDTO transitionDTO) {
+
+        int updated = taskService.transitionTasks(projectId, transitionDTO);
+
+        return ResponseEntity.ok(new TaskTransitionResponseDTO(updated));
+    }
+
+    private static void checkBatchSize(List<?> taskDTOs) {
+        if (taskDTOs.isEmpty() || taskDTOs.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "O lote deve conter entre 1 e " + MAX_BATCH_SIZE + " tarefas.");
+        }
+    }
+
+    private List<String> validate(Object taskDTO) {
+        if (taskDTO == null) {
+            return List.of("A tarefa não pode ser nula.");
+        }
+        return validator.validate(taskDTO).stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .toList();
+    }
+}
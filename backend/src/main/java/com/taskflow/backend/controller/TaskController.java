@@ -1,8 +1,8 @@
 package com.taskflow.backend.controller;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -13,11 +13,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.taskflow.backend.dto.PageResponseDTO;
+import com.taskflow.backend.dto.TaskFilterDTO;
 import com.taskflow.backend.dto.TaskRequestDTO;
 import com.taskflow.backend.dto.TaskResponseDTO;
 import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.service.ETags;
 import com.taskflow.backend.service.TaskService;
 
 import jakarta.validation.Valid;
@@ -49,21 +54,47 @@ public class TaskController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasksByProject(@PathVariable @NonNull Long projectId) {
+    public ResponseEntity<PageResponseDTO<?>> getAllTasksByProject(
+            @PathVariable @NonNull Long projectId,
+            TaskFilterDTO filter,
+            @PageableDefault(size = 50) Pageable pageable,
+            @RequestParam(required = false) String fields) {
+
+        if (fields != null) {
+            var page = taskService.findTaskFieldsByProjectId(projectId, filter, pageable, fields);
+            return ResponseEntity.ok(PageResponseDTO.of(page));
+        }
 
-        var tasks = taskService.findAllTasksByProjectId(projectId);
+        var tasks = taskService.findTasksByProjectId(projectId, filter, pageable);
 
-        var responseDTOs = tasks.stream()
-                .map(taskMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        var responseDTO = PageResponseDTO.of(tasks.map(taskMapper::toResponseDTO));
 
-        return ResponseEntity.ok(responseDTOs);
+        return ResponseEntity.ok(responseDTO);
     }
 
     @GetMapping("/{taskId}")
-    public ResponseEntity<TaskResponseDTO> getTaskById(
+    public ResponseEntity<?> getTaskById(
             @PathVariable Long projectId,
-            @PathVariable Long taskId) {
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+
+        if (fields != null) {
+            var task = taskService.findTaskFieldsByIdAndProjectId(taskId, projectId, fields)
+                    .orElseThrow(() -> new RuntimeException(
+                            "Tarefa não encontrada com ID: " + taskId + " no Projeto: " + projectId));
+            return ResponseEntity.ok(task);
+        }
+
+        // Revalidação lendo apenas a versão: o 304 não carrega nem serializa a tarefa
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            var version = taskService.findVersion(projectId, taskId)
+                    .orElseThrow(() -> new RuntimeException(
+                            "Tarefa não encontrada com ID: " + taskId + " no Projeto: " + projectId));
+            if (request.checkNotModified(ETags.forTask(version))) {
+                return null;
+            }
+        }
 
         var task = taskService.findTaskByIdAndProjectId(taskId, projectId)
                 .orElseThrow(() -> new RuntimeException(
@@ -71,22 +102,35 @@ public class TaskController {
 
         var responseDTO = taskMapper.toResponseDTO(task);
 
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok().eTag(ETags.forTask(task)).body(responseDTO);
     }
 
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskResponseDTO> updateTask(
             @PathVariable Long projectId,
             @PathVariable Long taskId,
-            @Valid @RequestBody TaskRequestDTO taskDTO) {
+            @Valid @RequestBody TaskRequestDTO taskDTO,
+            WebRequest request) {
+
+        Long expectedVersion = null;
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            var version = taskService.findVersion(projectId, taskId)
+                    .orElseThrow(() -> new RuntimeException(
+                            "Tarefa não encontrada com ID: " + taskId + " no Projeto: " + projectId));
+            // Responde 412 quando o ETag informado não é o atual
+            if (request.checkNotModified(ETags.forTask(version))) {
+                return null;
+            }
+            expectedVersion = version;
+        }
 
         var taskDetails = taskMapper.toEntity(taskDTO);
 
-        var updatedTask = taskService.updateTask(projectId, taskId, taskDetails);
+        var updatedTask = taskService.updateTask(projectId, taskId, taskDetails, expectedVersion);
 
         var responseDTO = taskMapper.toResponseDTO(updatedTask);
 
-        return ResponseEntity.ok(responseDTO);
+        return ResponseEntity.ok().eTag(ETags.forTask(updatedTask)).body(responseDTO);
     }
 
     @DeleteMapping("/{taskId}")
@@ -4,10 +4,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.taskflow.backend.dto.AuthenticationRequestDTO;
 import com.taskflow.backend.dto.AuthenticationResponseDTO;
+import com.taskflow.backend.dto.RefreshTokenRequestDTO;
 import com.taskflow.backend.dto.RegisterRequestDTO;
 import com.taskflow.backend.service.AuthenticationService;
 
@@ -29,4 +31,16 @@ public class AuthController {
     public ResponseEntity<AuthenticationResponseDTO> authenticate(@RequestBody AuthenticationRequestDTO request) {
         return ResponseEntity.ok(service.authenticate(request));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponseDTO> refresh(@RequestBody RefreshTokenRequestDTO request) {
+        return ResponseEntity.ok(service.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequestDTO request,
+            @RequestParam(defaultValue = "false") boolean allSessions) {
+        service.logout(request, allSessions);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
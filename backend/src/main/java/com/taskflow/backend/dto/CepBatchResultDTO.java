@@ -0,0 +1,14 @@
+package com.taskflow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CepBatchResultDTO {
+    private String cep;
+    // Nulo quando o CEP é inválido, não existe ou não pôde ser consultado
+    private ViaCepResponseDTO address;
+}
@@ -0,0 +1,25 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponseDTO<T> {
+
+    private List<T> items;
+
+    // Cursor opaco para a próxima página; nulo quando não há mais resultados
+    private String next;
+
+    public <R> CursorPageResponseDTO<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPageResponseDTO<>(mapped, next);
+    }
+}
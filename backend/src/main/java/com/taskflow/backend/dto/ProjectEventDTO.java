@@ -0,0 +1,23 @@
+package com.taskflow.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskflow.backend.events.ProjectEventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProjectEventDTO {
+
+    private ProjectEventType type;
+    private Long projectId;
+    private Long taskId;
+    // Mesma revisão de /api/sync; também enviada como id do evento SSE
+    private long revision;
+    private TaskResponseDTO task;
+    private ProjectResponseDTO project;
+}
@@ -0,0 +1,30 @@
+package com.taskflow.backend.dto;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+
+import lombok.Data;
+
+@Data
+public class ProjectStatsDTO {
+
+    private Long projectId;
+    private long totalTasks;
+    private Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+    private Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+    private long overdue;
+    private long dueThisWeek;
+
+    public ProjectStatsDTO(Long projectId) {
+        this.projectId = projectId;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncResponseDTO {
+
+    // Projetos criados ou alterados, sem as tarefas (que vêm em tasks)
+    private List<ProjectResponseDTO> projects;
+    private List<TaskResponseDTO> tasks;
+    private List<TombstoneDTO> deleted;
+
+    // Valor de since para a próxima chamada
+    private long revision;
+
+    // Há mais alterações já confirmadas além deste lote; o cliente pode chamar de novo imediatamente
+    private boolean hasMore;
+}
@@ -0,0 +1,18 @@
+package com.taskflow.backend.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TaskBatchUpdateDTO extends TaskRequestDTO {
+
+    @NotNull(message = "O id da tarefa é obrigatório.")
+    private Long id;
+
+    // Versão esperada, como no If-Match; ausente, a atualização não é condicional
+    private Long version;
+}
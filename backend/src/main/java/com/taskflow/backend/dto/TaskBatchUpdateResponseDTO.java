@@ -0,0 +1,17 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchUpdateResponseDTO {
+
+    private int updated;
+    private int failed;
+    private List<TaskBatchUpdateResultDTO> results;
+}
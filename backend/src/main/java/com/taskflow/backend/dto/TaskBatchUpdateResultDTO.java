@@ -0,0 +1,19 @@
+package com.taskflow.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchUpdateResultDTO {
+
+    // Posição do item na lista enviada
+    private int index;
+    private boolean updated;
+    private TaskResponseDTO task;
+    private List<String> errors;
+}
@@ -0,0 +1,25 @@
+package com.taskflow.backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+
+import lombok.Data;
+
+@Data
+public class TaskFilterDTO {
+
+    private List<TaskStatus> status;
+
+    private List<TaskPriority> priority;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+}
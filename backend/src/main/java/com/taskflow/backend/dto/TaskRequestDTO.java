@@ -17,6 +17,7 @@ public class TaskRequestDTO {
     @Size(max = 150, message = "O título não pode exceder 150 caracteres.")
     private String title;
 
+    @Size(max = 255, message = "A descrição não pode exceder 255 caracteres.")
     private String description;
 
     @NotNull(message = "A data de vencimento é obrigatória.")
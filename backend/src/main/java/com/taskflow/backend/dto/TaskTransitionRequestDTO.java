@@ -0,0 +1,33 @@
+package com.taskflow.backend.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.taskflow.backend.model.TaskStatus;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class TaskTransitionRequestDTO {
+
+    @NotNull(message = "O status de destino é obrigatório.")
+    private TaskStatus targetStatus;
+
+    // Seleção por ids...
+    @Size(max = 1000, message = "No máximo 1000 tarefas por transição.")
+    private List<Long> ids;
+
+    // ...ou por filtro: todas as tarefas em fromStatus, opcionalmente com vencimento anterior a dueBefore
+    private TaskStatus fromStatus;
+
+    private LocalDate dueBefore;
+
+    @AssertTrue(message = "Informe 'ids' ou 'fromStatus', mas não ambos.")
+    public boolean isSelectionValid() {
+        boolean byIds = ids != null && !ids.isEmpty();
+        return byIds != (fromStatus != null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskflow.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskTransitionResponseDTO {
+
+    private int updated;
+}
@@ -0,0 +1,17 @@
+package com.taskflow.backend.dto;
+
+import com.taskflow.backend.model.SyncEntityType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TombstoneDTO {
+
+    private SyncEntityType type;
+    private Long id;
+    private Long projectId;
+}
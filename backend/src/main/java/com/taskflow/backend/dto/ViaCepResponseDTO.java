@@ -1,5 +1,8 @@
 package com.taskflow.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.Data;
 
 @Data
@@ -12,5 +15,8 @@ public class ViaCepResponseDTO {
     private String uf;
     private String ibge;
     private String gia;
+    // O ViaCEP responde {"erro": true} para CEP inexistente; só é lido, nunca enviado aos clientes de /api/cep
+    @JsonAlias("erro")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private boolean hasError;
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.taskflow.backend.events;
+
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+
+/**
+ * Alteração publicada pelos serviços; entregue aos assinantes do projeto somente após o commit.
+ */
+public record ProjectChange(ProjectEventType type, Long projectId, Long taskId, long revision,
+        Task task, Project project) {
+
+    public static ProjectChange taskCreated(Task task) {
+        return new ProjectChange(ProjectEventType.TASK_CREATED, task.getProject().getId(), task.getId(),
+                task.getRevision(), task, null);
+    }
+
+    public static ProjectChange taskUpdated(Task task) {
+        return new ProjectChange(ProjectEventType.TASK_UPDATED, task.getProject().getId(), task.getId(),
+                task.getRevision(), task, null);
+    }
+
+    public static ProjectChange taskDeleted(Long projectId, Long taskId, long revision) {
+        return new ProjectChange(ProjectEventType.TASK_DELETED, projectId, taskId, revision, null, null);
+    }
+
+    public static ProjectChange tasksChanged(Long projectId, long revision) {
+        return new ProjectChange(ProjectEventType.TASKS_CHANGED, projectId, null, revision, null, null);
+    }
+
+    public static ProjectChange projectUpdated(Project project) {
+        return new ProjectChange(ProjectEventType.PROJECT_UPDATED, project.getId(), null, project.getRevision(),
+                null, project);
+    }
+
+    public static ProjectChange projectDeleted(Long projectId, long revision) {
+        return new ProjectChange(ProjectEventType.PROJECT_DELETED, projectId, null, revision, null, null);
+    }
+}
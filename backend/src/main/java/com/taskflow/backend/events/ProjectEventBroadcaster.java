@@ -0,0 +1,168 @@
+package com.taskflow.backend.events;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.config.ProjectEventsProperties;
+import com.taskflow.backend.dto.ProjectEventDTO;
+import com.taskflow.backend.mapper.ProjectMapper;
+import com.taskflow.backend.mapper.TaskMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * Fan-out em memória dos eventos de cada projeto para as conexões SSE desta instância.
+ * Cada assinante tem um buffer limitado: quem não consome a tempo é desconectado e deve se atualizar
+ * por /api/sync a partir do último id recebido. Um único timer envia os heartbeats de todas as conexões.
+ */
+@Component
+public class ProjectEventBroadcaster implements DisposableBean {
+
+    private static final ServerSentEvent<String> HEARTBEAT =
+            ServerSentEvent.<String>builder().comment("heartbeat").build();
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final ProjectMapper projectMapper;
+    private final TaskMapper taskMapper;
+    private final int bufferSize;
+    private final Counter evictions;
+    private final Disposable heartbeats;
+
+    public ProjectEventBroadcaster(ObjectMapper objectMapper, ProjectMapper projectMapper, TaskMapper taskMapper,
+            ProjectEventsProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.projectMapper = projectMapper;
+        this.taskMapper = taskMapper;
+        this.bufferSize = properties.getBufferSize();
+
+        Gauge.builder("project.events.subscribers", subscribers,
+                map -> map.values().stream().mapToInt(Set::size).sum())
+                .register(meterRegistry);
+        this.evictions = Counter.builder("project.events.evictions").register(meterRegistry);
+
+        this.heartbeats = Flux.interval(properties.getHeartbeatInterval()).subscribe(tick -> heartbeat());
+    }
+
+    public Flux<ServerSentEvent<String>> subscribe(Long projectId) {
+        return Flux.defer(() -> {
+            var subscriber = new Subscriber(bufferSize);
+            subscribers.compute(projectId, (id, set) -> {
+                var target = set == null ? ConcurrentHashMap.<Subscriber>newKeySet() : set;
+                target.add(subscriber);
+                return target;
+            });
+            return subscriber.sink.asFlux().doFinally(signal -> remove(projectId, subscriber));
+        });
+    }
+
+    // Após o commit, para que nenhum cliente veja uma alteração desfeita por rollback
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ProjectChange change) {
+        var targets = subscribers.get(change.projectId());
+        if (targets == null) {
+            return;
+        }
+        // Serializado uma única vez, qualquer que seja o número de assinantes
+        var event = toServerSentEvent(change);
+        targets.forEach(subscriber -> deliver(change.projectId(), subscriber, event));
+
+        if (change.type() == ProjectEventType.PROJECT_DELETED) {
+            var removed = subscribers.remove(change.projectId());
+            if (removed != null) {
+                removed.forEach(Subscriber::complete);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.dispose();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::complete));
+        subscribers.clear();
+    }
+
+    private void heartbeat() {
+        subscribers.forEach((projectId, set) -> set.forEach(subscriber -> deliver(projectId, subscriber, HEARTBEAT)));
+    }
+
+    private void deliver(Long projectId, Subscriber subscriber, ServerSentEvent<String> event) {
+        var result = subscriber.emit(event);
+        if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+            // O cliente recebe o que já estava no buffer e a conexão é encerrada
+            evictions.increment();
+            subscriber.complete();
+            remove(projectId, subscriber);
+        } else if (result.isFailure()) {
+            remove(projectId, subscriber);
+        }
+    }
+
+    private void remove(Long projectId, Subscriber subscriber) {
+        subscribers.computeIfPresent(projectId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private ServerSentEvent<String> toServerSentEvent(ProjectChange change) {
+        var dto = new ProjectEventDTO(change.type(), change.projectId(), change.taskId(), change.revision(),
+                change.task() == null ? null : taskMapper.toResponseDTO(change.task()),
+                change.project() == null ? null : projectMapper.toSummaryDTO(change.project()));
+        try {
+            return ServerSentEvent.<String>builder()
+                    .id(Long.toString(change.revision()))
+                    .event(change.type().name())
+                    .data(objectMapper.writeValueAsString(dto))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Sinks.Many<ServerSentEvent<String>> sink;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Subscriber(int bufferSize) {
+            this.sink = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<ServerSentEvent<String>>get(bufferSize).get());
+        }
+
+        // Commits e heartbeat emitem de threads diferentes; o sink exige emissões serializadas.
+        // ReentrantLock em vez de synchronized para não fixar a thread portadora de threads virtuais
+        Sinks.EmitResult emit(ServerSentEvent<String> event) {
+            lock.lock();
+            try {
+                return sink.tryEmitNext(event);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void complete() {
+            lock.lock();
+            try {
+                sink.tryEmitComplete();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
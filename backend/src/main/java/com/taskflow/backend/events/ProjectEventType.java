@@ -0,0 +1,11 @@
+package com.taskflow.backend.events;
+
+public enum ProjectEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_DELETED,
+    // Transição em massa: as tarefas afetadas devem ser buscadas em /api/sync
+    TASKS_CHANGED,
+    PROJECT_UPDATED,
+    PROJECT_DELETED
+}
@@ -0,0 +1,15 @@
+package com.taskflow.backend.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import com.taskflow.backend.dto.ViaCepResponseDTO;
+import com.taskflow.backend.model.CepCacheEntry;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CepMapper {
+
+    CepCacheEntry toEntry(ViaCepResponseDTO dto);
+
+    ViaCepResponseDTO toResponseDTO(CepCacheEntry entry);
+}
@@ -1,15 +1,22 @@
 package com.taskflow.backend.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 import com.taskflow.backend.dto.ProjectRequestDTO;
 import com.taskflow.backend.dto.ProjectResponseDTO;
 import com.taskflow.backend.model.Project;
+import com.taskflow.backend.repository.reactive.ProjectRow;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE, uses = { TaskMapper.class })
 public interface ProjectMapper {
     Project toEntity(ProjectRequestDTO dto);
 
     ProjectResponseDTO toResponseDTO(Project entity);
+
+    ProjectResponseDTO toResponseDTO(ProjectRow row);
+
+    @Mapping(target = "tasks", ignore = true)
+    ProjectResponseDTO toSummaryDTO(Project entity);
 }
\ No newline at end of file
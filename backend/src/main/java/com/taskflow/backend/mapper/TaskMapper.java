@@ -9,6 +9,7 @@ import org.mapstruct.ReportingPolicy;
 import com.taskflow.backend.dto.TaskRequestDTO;
 import com.taskflow.backend.dto.TaskResponseDTO;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.reactive.TaskRow;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface TaskMapper {
@@ -19,4 +20,6 @@ public interface TaskMapper {
     TaskResponseDTO toResponseDTO(Task entity);
 
     List<TaskResponseDTO> toResponseDTO(List<Task> entities);
+
+    TaskResponseDTO toResponseDTO(TaskRow row);
 }
\ No newline at end of file
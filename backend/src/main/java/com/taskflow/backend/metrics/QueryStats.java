@@ -0,0 +1,105 @@
+package com.taskflow.backend.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Contadores de SQL da requisição HTTP corrente, preenchidos pelo {@link QueryStatsListener}.
+ * O {@link QueryStatsFilter} vincula as estatísticas à thread de cada despacho da requisição.
+ * JDBC feito em outras threads (Mono/Flux em boundedElastic) só entra na conta se rodar por
+ * {@link #fromCallable}, que recebe as estatísticas pelo contexto do Reactor; por isso os contadores
+ * aceitam gravações concorrentes.
+ */
+public final class QueryStats {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+
+    private QueryStats() {
+    }
+
+    public static QueryStats start() {
+        var stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // Despachos assíncronos da mesma requisição continuam somando nas mesmas estatísticas
+    static void resume(QueryStats stats) {
+        CURRENT.set(stats);
+    }
+
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Leva ao contexto do Reactor as estatísticas da thread que assina; para uso em
+     * {@code contextWrite}, que roda na assinatura feita pela thread da requisição.
+     */
+    public static Context capture(Context context) {
+        var stats = current();
+        return stats == null ? context : context.put(QueryStats.class, stats);
+    }
+
+    /**
+     * Como {@link Mono#fromCallable}, mas o SQL executado pelo callable conta para a requisição
+     * guardada no contexto por {@link #capture}, em qualquer thread em que ele rode.
+     */
+    public static <T> Mono<T> fromCallable(Callable<? extends T> callable) {
+        return Mono.deferContextual(context -> Mono.fromCallable(() -> {
+            QueryStats stats = context.getOrDefault(QueryStats.class, null);
+            if (stats == null) {
+                return callable.call();
+            }
+            var previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                return callable.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        }));
+    }
+
+    void record(long nanos) {
+        count.incrementAndGet();
+        elapsedNanos.addAndGet(nanos);
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.get();
+    }
+
+    public double getElapsedMillis() {
+        return getElapsedNanos() / 1_000_000.0;
+    }
+
+    void writeHeaders(BiConsumer<String, String> setHeader) {
+        setHeader.accept(QUERY_COUNT_HEADER, Integer.toString(getCount()));
+        setHeader.accept(QUERY_TIME_HEADER, String.format(Locale.ROOT, "%.3f", getElapsedMillis()));
+    }
+}
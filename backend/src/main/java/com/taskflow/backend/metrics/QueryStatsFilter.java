@@ -0,0 +1,126 @@
+package com.taskflow.backend.metrics;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Abre a contagem de SQL antes de qualquer outro filtro (inclusive a autenticação JWT)
+ * e publica o total da requisição como métricas por rota.
+ * Respostas assíncronas (Mono, Flux, SSE) passam por mais de um despacho, todos somando nas mesmas
+ * estatísticas; as métricas só são gravadas quando a resposta termina, com o status final.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final String STATS_ATTRIBUTE = QueryStatsFilter.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeaders;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry,
+            @Value("${application.query-inspection.expose-headers:false}") boolean exposeHeaders) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        var stats = (QueryStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats == null) {
+            stats = QueryStats.start();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        } else {
+            QueryStats.resume(stats);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.clear();
+            if (exposeHeaders && !response.isCommitted()) {
+                stats.writeHeaders(response::setHeader);
+            }
+            if (isAsyncStarted(request)) {
+                request.getAsyncContext().addListener(new RecordOnComplete(request, response, stats));
+            } else if (!isAsyncDispatch(request)) {
+                record(request, response, stats);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String status = Integer.toString(response.getStatus());
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("Comandos SQL executados por requisição")
+                .tags("method", request.getMethod(), "uri", uri, "status", status)
+                .register(meterRegistry)
+                .record(stats.getCount());
+
+        Timer.builder("http.server.requests.db.time")
+                .description("Tempo gasto em SQL por requisição")
+                .tags("method", request.getMethod(), "uri", uri, "status", status)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private final class RecordOnComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final QueryStats stats;
+
+        RecordOnComplete(HttpServletRequest request, HttpServletResponse response, QueryStats stats) {
+            this.request = request;
+            this.response = response;
+            this.stats = stats;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, response, stats);
+        }
+
+        // Timeout e erro terminam em um despacho de volta e, depois dele, em onComplete
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
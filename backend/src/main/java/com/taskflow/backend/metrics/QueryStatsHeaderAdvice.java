@@ -0,0 +1,37 @@
+package com.taskflow.backend.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Em desenvolvimento, expõe a contagem e o tempo de SQL da requisição nos cabeçalhos da resposta.
+ * Roda antes da serialização, quando todas as consultas do endpoint já foram executadas;
+ * respostas sem corpo recebem os cabeçalhos no {@link QueryStatsFilter}.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "application.query-inspection", name = "expose-headers", havingValue = "true")
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+
+        var stats = QueryStats.current();
+        if (stats != null) {
+            stats.writeHeaders(response.getHeaders()::set);
+        }
+        return body;
+    }
+}
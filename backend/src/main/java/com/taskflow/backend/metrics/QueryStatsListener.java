@@ -0,0 +1,31 @@
+package com.taskflow.backend.metrics;
+
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Conta cada execução JDBC (um batch conta como uma ida ao banco) e soma o tempo gasto nela.
+ */
+public class QueryStatsListener implements QueryExecutionListener {
+
+    private static final String START_KEY = "taskflow.queryStart";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (QueryStats.current() != null) {
+            execInfo.addCustomValue(START_KEY, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var stats = QueryStats.current();
+        Long start = execInfo.getCustomValue(START_KEY, Long.class);
+        if (stats != null && start != null) {
+            stats.record(System.nanoTime() - start);
+        }
+    }
+}
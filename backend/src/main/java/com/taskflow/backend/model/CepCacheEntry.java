@@ -0,0 +1,40 @@
+package com.taskflow.backend.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Table(name = "cep_cache")
+@Data
+public class CepCacheEntry {
+    @Id
+    @Column(length = 8)
+    private String cep;
+
+    // false registra que o ViaCEP respondeu "erro" (CEP inexistente)
+    @Column(nullable = false)
+    private boolean found;
+
+    @Column(name = "fetched_at", nullable = false)
+    private Instant fetchedAt;
+
+    private String logradouro;
+
+    private String complemento;
+
+    private String bairro;
+
+    private String localidade;
+
+    @Column(length = 2)
+    private String uf;
+
+    private String ibge;
+
+    private String gia;
+}
@@ -0,0 +1,11 @@
+package com.taskflow.backend.model;
+
+import java.time.Instant;
+
+/**
+ * Entidade acompanhada pela sincronização incremental: cada escrita recebe a revisão da transação.
+ */
+public interface ChangeTracked {
+
+    void markChanged(long revision, Instant changedAt);
+}
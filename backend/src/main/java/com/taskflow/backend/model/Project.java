@@ -1,28 +1,66 @@
 package com.taskflow.backend.model;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import com.taskflow.backend.repository.ChangeTrackingListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_start_date_id", columnList = "start_date, id"),
+        @Index(name = "idx_projects_revision_id", columnList = "revision, id")
+})
+@EntityListeners(ChangeTrackingListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.CACHE_REGION)
 @Data
-public class Project {
+public class Project implements ChangeTracked {
+    public static final String CACHE_REGION = "project";
+    public static final String TASKS_CACHE_REGION = "project.tasks";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequência com pooled optimizer: ids reservados em blocos permitem batch de INSERT
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
+    // Controle otimista de concorrência e base do ETag; o default permite adicionar a coluna a tabelas com dados
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // Revisão global da última escrita e seu instante; base da sincronização incremental (/api/sync)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "modified_at")
+    private Instant modifiedAt;
+
     @Column(nullable = false, length = 100)
     private String title;
 
@@ -31,7 +69,9 @@ public class Project {
     @Enumerated(EnumType.STRING)
     private ProjectStatus status;
 
+    @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
+
     private LocalDate endDate;
 
     @Column(name = "cep")
@@ -52,7 +92,15 @@ public class Project {
     @Column(name = "numero")
     private String numero;
 
+    // Inicializa as tarefas de vários projetos da mesma página em uma única consulta
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.TASKS_CACHE_REGION)
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks;
 
+    @Override
+    public void markChanged(long revision, Instant changedAt) {
+        this.revision = revision;
+        this.modifiedAt = changedAt;
+    }
 }
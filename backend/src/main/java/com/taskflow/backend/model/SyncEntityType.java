@@ -0,0 +1,6 @@
+package com.taskflow.backend.model;
+
+public enum SyncEntityType {
+    PROJECT,
+    TASK
+}
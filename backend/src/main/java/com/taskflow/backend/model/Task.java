@@ -1,32 +1,71 @@
 package com.taskflow.backend.model;
 
+import java.time.Instant;
 import java.time.LocalDate;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+
+import com.taskflow.backend.repository.ChangeTrackingListener;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_status_due_date", columnList = "project_id, status, due_date"),
+        @Index(name = "idx_tasks_project_due_date", columnList = "project_id, due_date"),
+        @Index(name = "idx_tasks_revision_id", columnList = "revision, id")
+})
+@EntityListeners(ChangeTrackingListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @Data
-public class Task {
+public class Task implements ChangeTracked {
+    public static final String CACHE_REGION = "task";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Sequência com pooled optimizer: ids reservados em blocos permitem batch de INSERT
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    // Controle otimista de concorrência e base do ETag; o default permite adicionar a coluna a tabelas com dados
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    // Revisão global da última escrita e seu instante; base da sincronização incremental (/api/sync)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "modified_at")
+    private Instant modifiedAt;
+
     @Column(nullable = false, length = 150)
     private String title;
 
     private String description;
+
+    @Column(name = "due_date")
     private LocalDate dueDate;
 
     @Enumerated(EnumType.STRING)
@@ -38,4 +77,9 @@ public class Task {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
+    @Override
+    public void markChanged(long revision, Instant changedAt) {
+        this.revision = revision;
+        this.modifiedAt = changedAt;
+    }
 }
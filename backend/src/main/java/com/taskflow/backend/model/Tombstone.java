@@ -0,0 +1,76 @@
+package com.taskflow.backend.model;
+
+import java.time.Instant;
+
+import com.taskflow.backend.repository.ChangeRevisions;
+import com.taskflow.backend.repository.ChangeTrackingListener;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registro de uma remoção, para que clientes em sincronização incremental descartem a linha.
+ */
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+        @Index(name = "idx_sync_tombstones_revision_id", columnList = "revision, id")
+})
+@EntityListeners(ChangeTrackingListener.class)
+@Data
+@NoArgsConstructor
+public class Tombstone implements ChangeTracked {
+
+    // Ids tirados da sequência de revisões, o que também faz o schema criá-la; os blocos de alocação
+    // só deixam as revisões esparsas, sem alterar sua ordem
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tombstone_seq")
+    @SequenceGenerator(name = "tombstone_seq", sequenceName = ChangeRevisions.SEQUENCE, allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    public static Tombstone ofProject(Long projectId) {
+        return new Tombstone(SyncEntityType.PROJECT, projectId, projectId);
+    }
+
+    public static Tombstone ofTask(Long taskId, Long projectId) {
+        return new Tombstone(SyncEntityType.TASK, taskId, projectId);
+    }
+
+    private Tombstone(SyncEntityType entityType, Long entityId, Long projectId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.projectId = projectId;
+    }
+
+    @Override
+    public void markChanged(long revision, Instant changedAt) {
+        this.revision = revision;
+        this.deletedAt = changedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskflow.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.CepCacheEntry;
+
+@Repository
+public interface CepCacheRepository extends JpaRepository<CepCacheEntry, String> {
+}
@@ -0,0 +1,74 @@
+package com.taskflow.backend.repository;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Revisões de alteração tiradas de uma sequência global do banco, uma por transação.
+ * Cada revisão é um nextval direto, sem reserva de blocos em memória: com várias instâncias,
+ * blocos quebrariam a ordem das revisões entre elas.
+ */
+@Component
+public class ChangeRevisions {
+
+    public static final String SEQUENCE = "change_revision_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+    private volatile String nextValueSql;
+
+    // EntityManagerFactory é obtida tardiamente: o listener que usa esta classe é criado durante a construção dela
+    public ChangeRevisions(JdbcTemplate jdbcTemplate, ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Revisão da transação corrente; todas as escritas de uma mesma transação compartilham o valor.
+     * A consulta à sequência usa a conexão da transação JPA.
+     */
+    public long current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return next();
+        }
+        var bound = (Long) TransactionSynchronizationManager.getResource(this);
+        if (bound != null) {
+            return bound;
+        }
+
+        long revision = next();
+        TransactionSynchronizationManager.bindResource(this, revision);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(ChangeRevisions.this);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(ChangeRevisions.this, revision);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeRevisions.this);
+            }
+        });
+        return revision;
+    }
+
+    private long next() {
+        if (nextValueSql == null) {
+            var dialect = entityManagerFactory.getObject().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect();
+            nextValueSql = dialect.getSequenceSupport().getSequenceNextValString(SEQUENCE);
+        }
+        return jdbcTemplate.queryForObject(nextValueSql, Long.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskflow.backend.repository;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.taskflow.backend.model.ChangeTracked;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Carimba revisão e instante em inserções e atualizações feitas pelo JPA.
+ * UPDATEs em massa não passam por aqui e precisam gravar as duas colunas explicitamente.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeTrackingListener {
+
+    private final ChangeRevisions changeRevisions;
+
+    @PrePersist
+    @PreUpdate
+    void markChanged(Object entity) {
+        if (entity instanceof ChangeTracked tracked) {
+            tracked.markChanged(changeRevisions.current(), Instant.now());
+        }
+    }
+}
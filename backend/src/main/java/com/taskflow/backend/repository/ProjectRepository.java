@@ -1,11 +1,62 @@
 package com.taskflow.backend.repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.taskflow.backend.model.Project;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    @EntityGraph(attributePaths = "tasks")
+    Optional<Project> findWithTasksById(Long id);
+
+    @Query("""
+            SELECT p.version AS version, COUNT(t) AS taskCount,
+                   COALESCE(SUM(t.id), 0) AS taskIdSum, COALESCE(SUM(t.version), 0) AS taskVersionSum
+            FROM Project p LEFT JOIN p.tasks t
+            WHERE p.id = :id
+            GROUP BY p.id, p.version
+            """)
+    Optional<ProjectVersionRow> findVersionById(@Param("id") Long id);
+
+    // Sincronização incremental: varredura do índice (revision, id)
+    List<Project> findByRevisionGreaterThanOrderByRevisionAscIdAsc(long revision, Limit limit);
+
+    List<Project> findByRevisionAndIdGreaterThanOrderByIdAsc(long revision, Long id);
+
+    @Query("SELECT p FROM Project p ORDER BY p.startDate ASC, p.id ASC")
+    List<Project> findFirstPage(Limit limit);
+
+    // O primeiro predicado delimita a faixa do índice (start_date, id); o segundo desempata pelo id
+    @Query("""
+            SELECT p FROM Project p
+            WHERE p.startDate >= :startDate
+              AND (p.startDate > :startDate OR p.id > :id)
+            ORDER BY p.startDate ASC, p.id ASC
+            """)
+    List<Project> findPageAfter(@Param("startDate") LocalDate startDate, @Param("id") Long id, Limit limit);
+
+    // Cursor do banco lido em blocos; as entidades não guardam snapshot para dirty checking
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            // A exportação percorre a tabela inteira; não deve expulsar as entradas quentes do cache L2
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    Stream<Project> streamAllBy();
 }
@@ -0,0 +1,31 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.backend.model.Project;
+
+public final class ProjectSpecifications {
+
+    private ProjectSpecifications() {
+    }
+
+    public static Specification<Project> hasId(Long id) {
+        return (root, query, builder) -> builder.equal(root.get("id"), id);
+    }
+
+    // Mesma condição de ProjectRepository.findPageAfter, para as consultas por projeção
+    public static Specification<Project> after(LocalDate startDate, Long id) {
+        return (root, query, builder) -> builder.and(
+                builder.greaterThanOrEqualTo(root.get("startDate"), startDate),
+                builder.or(
+                        builder.greaterThan(root.get("startDate"), startDate),
+                        builder.greaterThan(root.get("id"), id)));
+    }
+
+    public static Specification<Project> idIn(Collection<Long> ids) {
+        return (root, query, builder) -> root.get("id").in(ids);
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.backend.repository;
+
+/**
+ * Versão do projeto e agregados das suas tarefas: o bastante para calcular o ETag sem carregar entidades.
+ */
+public interface ProjectVersionRow {
+
+    Long getVersion();
+
+    Long getTaskCount();
+
+    Long getTaskIdSum();
+
+    Long getTaskVersionSum();
+}
@@ -0,0 +1,110 @@
+package com.taskflow.backend.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Consultas que selecionam apenas as colunas pedidas pelo cliente, sem materializar entidades.
+ * Os campos são informados como nome de saída → caminho do atributo (ex.: "projectId" → "project.id").
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public <T> List<Map<String, Object>> findFields(Class<T> type, Map<String, String> fields,
+            Specification<T> specification, Sort sort, int limit) {
+        return query(type, fields, specification, sort, 0, limit);
+    }
+
+    public <T> Page<Map<String, Object>> findFields(Class<T> type, Map<String, String> fields,
+            Specification<T> specification, Pageable pageable) {
+
+        var content = query(type, fields, specification, pageable.getSort(),
+                (int) pageable.getOffset(), pageable.getPageSize());
+        // O COUNT só é executado quando a página não permite deduzir o total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(type, specification));
+    }
+
+    private <T> List<Map<String, Object>> query(Class<T> type, Map<String, String> fields,
+            Specification<T> specification, Sort sort, int offset, int limit) {
+
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createTupleQuery();
+        Root<T> root = query.from(type);
+
+        List<Selection<?>> selections = fields.entrySet().stream()
+                .<Selection<?>>map(field -> path(root, field.getValue()).alias(field.getKey()))
+                .toList();
+        query.multiselect(selections);
+
+        if (specification != null) {
+            var predicate = specification.toPredicate(root, query, builder);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        typedQuery.setFirstResult(offset);
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        return typedQuery.getResultList().stream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+    }
+
+    private <T> long count(Class<T> type, Specification<T> specification) {
+        var builder = entityManager.getCriteriaBuilder();
+        var query = builder.createQuery(Long.class);
+        Root<T> root = query.from(type);
+        query.select(builder.count(root));
+
+        if (specification != null) {
+            var predicate = specification.toPredicate(root, query, builder);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, Map<String, String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String name : fields.keySet()) {
+            row.put(name, tuple.get(name));
+        }
+        return row;
+    }
+
+    private static Path<?> path(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+}
@@ -1,16 +1,108 @@
 package com.taskflow.backend.repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskStatus;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     List<Task> findByProjectId(Long projectId);
 
-    Optional<Task> findByIdAndProjectId(Long id, Long projectId);
-}
\ No newline at end of file
+    @Query("SELECT t.version FROM Task t WHERE t.id = :taskId AND t.project.id = :projectId")
+    Optional<Long> findVersionByIdAndProjectId(@Param("taskId") Long taskId, @Param("projectId") Long projectId);
+
+    // Sincronização incremental: varredura do índice (revision, id)
+    List<Task> findByRevisionGreaterThanOrderByRevisionAscIdAsc(long revision, Limit limit);
+
+    List<Task> findByRevisionAndIdGreaterThanOrderByIdAsc(long revision, Long id);
+
+    // Cursor do banco lido em blocos; as entidades não guardam snapshot para dirty checking
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            // A exportação percorre a tabela inteira; não deve expulsar as entradas quentes do cache L2
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.id")
+    Stream<Task> streamAllBy();
+
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.id IN :ids")
+    List<Task> findByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    // Transições em massa: um único UPDATE; o contexto de persistência é sincronizado antes e limpo depois.
+    // Versão, revisão e instante são gravados explicitamente, pois UPDATE em massa não passa pelo Hibernate
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Task t SET t.status = :target, t.version = t.version + 1,
+                t.revision = :revision, t.modifiedAt = :modifiedAt
+            WHERE t.project.id = :projectId AND t.id IN :ids AND (t.status IS NULL OR t.status <> :target)
+            """)
+    int updateStatusByIds(
+            @Param("projectId") Long projectId,
+            @Param("ids") Collection<Long> ids,
+            @Param("target") TaskStatus target,
+            @Param("revision") long revision,
+            @Param("modifiedAt") Instant modifiedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Task t SET t.status = :target, t.version = t.version + 1,
+                t.revision = :revision, t.modifiedAt = :modifiedAt
+            WHERE t.project.id = :projectId AND t.status = :from
+            """)
+    int updateStatusByStatus(
+            @Param("projectId") Long projectId,
+            @Param("from") TaskStatus from,
+            @Param("target") TaskStatus target,
+            @Param("revision") long revision,
+            @Param("modifiedAt") Instant modifiedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Task t SET t.status = :target, t.version = t.version + 1,
+                t.revision = :revision, t.modifiedAt = :modifiedAt
+            WHERE t.project.id = :projectId AND t.status = :from AND t.dueDate < :dueBefore
+            """)
+    int updateStatusByStatusAndDueBefore(
+            @Param("projectId") Long projectId,
+            @Param("from") TaskStatus from,
+            @Param("dueBefore") LocalDate dueBefore,
+            @Param("target") TaskStatus target,
+            @Param("revision") long revision,
+            @Param("modifiedAt") Instant modifiedAt);
+
+    String STATS_SELECT = """
+            SELECT p.id AS projectId, t.status AS status, t.priority AS priority, COUNT(t) AS total,
+                   SUM(CASE WHEN t.dueDate < :today AND t.status NOT IN :closed THEN 1 ELSE 0 END) AS overdue,
+                   SUM(CASE WHEN t.dueDate BETWEEN :today AND :weekEnd AND t.status NOT IN :closed
+                            THEN 1 ELSE 0 END) AS dueThisWeek
+            FROM Project p LEFT JOIN p.tasks t
+            """;
+
+    String STATS_GROUP_BY = " GROUP BY p.id, t.status, t.priority ORDER BY p.id";
+
+    @Query(STATS_SELECT + " WHERE p.id IN :projectIds" + STATS_GROUP_BY)
+    List<TaskStatsRow> countStatsByProjectIds(
+            @Param("projectIds") Collection<Long> projectIds,
+            @Param("today") LocalDate today,
+            @Param("weekEnd") LocalDate weekEnd,
+            @Param("closed") Collection<TaskStatus> closed);
+}
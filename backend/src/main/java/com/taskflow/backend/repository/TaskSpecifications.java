@@ -0,0 +1,104 @@
+package com.taskflow.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.taskflow.backend.dto.TaskFilterDTO;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> hasId(Long id) {
+        return (root, query, builder) -> builder.equal(root.get("id"), id);
+    }
+
+    public static Specification<Task> belongsToProject(Long projectId) {
+        return (root, query, builder) -> builder.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> belongsToProjects(Collection<Long> projectIds) {
+        return (root, query, builder) -> root.get("project").get("id").in(projectIds);
+    }
+
+    public static Specification<Task> hasStatusIn(Collection<TaskStatus> statuses) {
+        return (root, query, builder) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Task> hasPriorityIn(Collection<TaskPriority> priorities) {
+        return (root, query, builder) -> root.get("priority").in(priorities);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    /**
+     * Aplica a ordenação na própria consulta: enums gravados como texto são ordenados pela posição na
+     * declaração, e não alfabeticamente como faria um {@link Sort} sobre a coluna.
+     */
+    public static Specification<Task> orderedBy(Sort sort) {
+        return (root, query, builder) -> {
+            // Consultas de contagem não admitem ORDER BY
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(sort.stream().map(order -> toOrder(order, root, builder)).toList());
+            }
+            return null;
+        };
+    }
+
+    private static Order toOrder(Sort.Order order, Root<Task> root, CriteriaBuilder builder) {
+        Expression<?> expression = switch (order.getProperty()) {
+            case "priority" -> rank(builder, root.get("priority"), TaskPriority.values());
+            case "status" -> rank(builder, root.get("status"), TaskStatus.values());
+            default -> root.get(order.getProperty());
+        };
+        return order.isAscending() ? builder.asc(expression) : builder.desc(expression);
+    }
+
+    private static <E extends Enum<E>> Expression<Integer> rank(CriteriaBuilder builder, Path<E> path, E[] values) {
+        var rank = builder.<E, Integer>selectCase(path);
+        for (E value : values) {
+            rank = rank.when(value, value.ordinal());
+        }
+        return rank.otherwise(values.length);
+    }
+
+    // Os predicados seguem a ordem do índice (project_id, status, due_date)
+    public static Specification<Task> matching(Long projectId, TaskFilterDTO filter) {
+        Specification<Task> specification = belongsToProject(projectId);
+        if (filter == null) {
+            return specification;
+        }
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            specification = specification.and(hasStatusIn(filter.getStatus()));
+        }
+        if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+            specification = specification.and(hasPriorityIn(filter.getPriority()));
+        }
+        if (filter.getDueFrom() != null) {
+            specification = specification.and(dueOnOrAfter(filter.getDueFrom()));
+        }
+        if (filter.getDueTo() != null) {
+            specification = specification.and(dueOnOrBefore(filter.getDueTo()));
+        }
+        return specification;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.backend.repository;
+
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+
+/**
+ * Uma linha do agrupamento (projeto, status, prioridade) usado nas estatísticas de projeto.
+ * Projetos sem tarefas aparecem com status e prioridade nulos e total zero.
+ */
+public interface TaskStatsRow {
+
+    Long getProjectId();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Long getTotal();
+
+    Long getOverdue();
+
+    Long getDueThisWeek();
+}
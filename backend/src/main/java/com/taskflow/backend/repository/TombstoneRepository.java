@@ -0,0 +1,17 @@
+package com.taskflow.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.taskflow.backend.model.Tombstone;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    List<Tombstone> findByRevisionGreaterThanOrderByRevisionAscIdAsc(long revision, Limit limit);
+
+    List<Tombstone> findByRevisionAndIdGreaterThanOrderByIdAsc(long revision, Long id);
+}
@@ -0,0 +1,9 @@
+package com.taskflow.backend.repository;
+
+import java.util.Optional;
+
+import com.taskflow.backend.model.User;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByEmail(String email);
+}
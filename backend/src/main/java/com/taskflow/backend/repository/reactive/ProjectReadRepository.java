@@ -0,0 +1,26 @@
+package com.taskflow.backend.repository.reactive;
+
+import java.time.LocalDate;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+
+import reactor.core.publisher.Flux;
+
+public interface ProjectReadRepository extends R2dbcRepository<ProjectRow, Long> {
+
+    @Query("SELECT * FROM projects ORDER BY start_date, id LIMIT :limit")
+    Flux<ProjectRow> findFirstPage(@Param("limit") int limit);
+
+    // Mesmo predicado de keyset do ProjectRepository, sobre o índice (start_date, id)
+    @Query("""
+            SELECT * FROM projects
+            WHERE start_date >= :startDate
+              AND (start_date > :startDate OR id > :id)
+            ORDER BY start_date, id
+            LIMIT :limit
+            """)
+    Flux<ProjectRow> findPageAfter(@Param("startDate") LocalDate startDate, @Param("id") Long id,
+            @Param("limit") int limit);
+}
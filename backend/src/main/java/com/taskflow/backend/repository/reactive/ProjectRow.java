@@ -0,0 +1,32 @@
+package com.taskflow.backend.repository.reactive;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.taskflow.backend.model.ProjectStatus;
+
+import lombok.Data;
+
+/**
+ * Linha da tabela {@code projects} lida pelo caminho reativo; a escrita continua na entidade JPA.
+ */
+@Data
+@Table("projects")
+public class ProjectRow {
+
+    @Id
+    private Long id;
+    private String title;
+    private String description;
+    private ProjectStatus status;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String cep;
+    private String logradouro;
+    private String bairro;
+    private String cidade;
+    private String uf;
+    private String numero;
+}
@@ -0,0 +1,12 @@
+package com.taskflow.backend.repository.reactive;
+
+import java.util.Collection;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import reactor.core.publisher.Flux;
+
+public interface TaskReadRepository extends R2dbcRepository<TaskRow, Long>, TaskReadRepositoryCustom {
+
+    Flux<TaskRow> findByProjectIdInOrderByDueDateAscIdAsc(Collection<Long> projectIds);
+}
@@ -0,0 +1,10 @@
+package com.taskflow.backend.repository.reactive;
+
+import com.taskflow.backend.dto.TaskFilterDTO;
+
+import reactor.core.publisher.Flux;
+
+public interface TaskReadRepositoryCustom {
+
+    Flux<TaskRow> findMatching(Long projectId, TaskFilterDTO filter);
+}
@@ -0,0 +1,47 @@
+package com.taskflow.backend.repository.reactive;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+
+import com.taskflow.backend.dto.TaskFilterDTO;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+/**
+ * Equivalente reativo de {@code TaskSpecifications.matching}: os filtros opcionais viram
+ * critérios na mesma ordem do índice (project_id, status, due_date).
+ */
+@RequiredArgsConstructor
+class TaskReadRepositoryImpl implements TaskReadRepositoryCustom {
+
+    private static final Sort ORDER = Sort.by("dueDate", "id");
+
+    private final R2dbcEntityTemplate template;
+
+    @Override
+    public Flux<TaskRow> findMatching(Long projectId, TaskFilterDTO filter) {
+        Criteria criteria = where("projectId").is(projectId);
+        if (filter != null) {
+            if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+                criteria = criteria.and("status").in(filter.getStatus().stream().map(Enum::name).toList());
+            }
+            if (filter.getPriority() != null && !filter.getPriority().isEmpty()) {
+                criteria = criteria.and("priority").in(filter.getPriority().stream().map(Enum::name).toList());
+            }
+            if (filter.getDueFrom() != null) {
+                criteria = criteria.and("dueDate").greaterThanOrEquals(filter.getDueFrom());
+            }
+            if (filter.getDueTo() != null) {
+                criteria = criteria.and("dueDate").lessThanOrEquals(filter.getDueTo());
+            }
+        }
+        return template.select(TaskRow.class)
+                .matching(Query.query(criteria).sort(ORDER))
+                .all();
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.backend.repository.reactive;
+
+import java.time.LocalDate;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+
+import lombok.Data;
+
+/**
+ * Linha da tabela {@code tasks} lida pelo caminho reativo; a escrita continua na entidade JPA.
+ */
+@Data
+@Table("tasks")
+public class TaskRow {
+
+    @Id
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDate dueDate;
+    private TaskPriority priority;
+    private TaskStatus status;
+    private Long projectId;
+}
@@ -0,0 +1,27 @@
+package com.taskflow.backend.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.taskflow.backend.model.UserRole;
+
+/**
+ * Principal montado a partir das claims de um JWT verificado, sem consultar o banco.
+ * Quem precisar da entidade {@code User} completa a carrega pelo id (servida pelo cache L2).
+ * O nome é o e-mail, como o username do {@code UserDetails} usado no modo não stateless.
+ */
+public record AuthenticatedUser(Long id, String email, UserRole role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+}
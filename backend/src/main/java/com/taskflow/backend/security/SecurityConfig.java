@@ -2,15 +2,22 @@ package com.taskflow.backend.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.taskflow.backend.config.MetricsScrapeProperties;
+
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -21,6 +28,25 @@ public class SecurityConfig {
         private final JwtAuthenticationFilter jwtAuthFilter;
         private final AuthenticationProvider authenticationProvider;
         private final CorsConfigurationSource corsConfigurationSource;
+        private final MetricsScrapeProperties metricsScrapeProperties;
+
+        // O Prometheus não renova JWT: o scrape usa um token estático próprio, avaliado antes da cadeia principal
+        @Bean
+        @Order(1)
+        public SecurityFilterChain metricsScrapeFilterChain(HttpSecurity http) throws Exception {
+                http
+                                .securityMatcher(MetricsScrapeProperties.SCRAPE_PATH)
+                                .csrf(csrf -> csrf.disable())
+                                .authorizeHttpRequests(auth -> auth.anyRequest().access(scrapeTokenAuthorization()))
+                                .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+                return http.build();
+        }
+
+        private AuthorizationManager<RequestAuthorizationContext> scrapeTokenAuthorization() {
+                return (authentication, context) -> new AuthorizationDecision(
+                                metricsScrapeProperties.accepts(context.getRequest().getHeader(HttpHeaders.AUTHORIZATION)));
+        }
 
         @Bean
         public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -39,7 +65,8 @@ public class SecurityConfig {
                                                                 "/v2/api-docs",
                                                                 "/v3/api-docs/**",
                                                                 "/swagger-resources/**",
-                                                                "/swagger-ui/**")
+                                                                "/swagger-ui/**",
+                                                                "/actuator/health/**")
                                                 .permitAll()
                                                 .anyRequest().authenticated())
                                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
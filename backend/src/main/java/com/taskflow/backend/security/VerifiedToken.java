@@ -0,0 +1,16 @@
+package com.taskflow.backend.security;
+
+import java.time.Instant;
+
+import com.taskflow.backend.model.UserRole;
+
+/**
+ * Resultado imutável da verificação de um JWT. {@code userId} e {@code role} são nulos
+ * em tokens emitidos antes dessas claims existirem.
+ */
+public record VerifiedToken(String subject, Long userId, UserRole role, Instant expiresAt) {
+
+    public boolean hasUserClaims() {
+        return userId != null && role != null;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import com.taskflow.backend.dto.AuthenticationRequestDTO;
 import com.taskflow.backend.dto.AuthenticationResponseDTO;
+import com.taskflow.backend.dto.RefreshTokenRequestDTO;
 import com.taskflow.backend.dto.RegisterRequestDTO;
 import com.taskflow.backend.model.User;
 import com.taskflow.backend.model.UserRole;
@@ -23,6 +24,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthenticationResponseDTO register(RegisterRequestDTO request) {
         // Verifica se o usuário já existe (Regra de negócio)
@@ -39,21 +41,34 @@ public class AuthenticationService {
 
         repository.save(user);
 
-        var jwtToken = jwtService.generateToken(user);
-        return new AuthenticationResponseDTO(jwtToken);
+        return tokensFor(user);
     }
 
     public AuthenticationResponseDTO authenticate(AuthenticationRequestDTO request) {
-        // Tenta autenticar o usuário
-        authenticationManager.authenticate(
+        // Tenta autenticar o usuário; o principal retornado já é o usuário carregado pelo provider
+        var authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
                         request.getPassword()));
-        // Se a autenticação for bem-sucedida, busca o usuário e gera o token
-        var user = repository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("Credenciais inválidas."));
+        var user = (User) authentication.getPrincipal();
 
-        var jwtToken = jwtService.generateToken(user);
-        return new AuthenticationResponseDTO(jwtToken);
+        return tokensFor(user);
+    }
+
+    // Troca o refresh token por um novo par de tokens, sem verificar senha
+    public AuthenticationResponseDTO refresh(RefreshTokenRequestDTO request) {
+        var rotation = refreshTokenService.rotate(request.getRefreshToken());
+        var user = repository.findById(rotation.userId())
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+
+        return new AuthenticationResponseDTO(jwtService.generateToken(user), rotation.refreshToken());
+    }
+
+    public void logout(RefreshTokenRequestDTO request, boolean allSessions) {
+        refreshTokenService.revoke(request.getRefreshToken(), allSessions);
+    }
+
+    private AuthenticationResponseDTO tokensFor(User user) {
+        return new AuthenticationResponseDTO(jwtService.generateToken(user), refreshTokenService.issue(user.getId()));
     }
 }
\ No newline at end of file
@@ -1,36 +1,175 @@
 package com.taskflow.backend.service;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taskflow.backend.cep.CepIndex;
+import com.taskflow.backend.cep.ViaCepClient;
+import com.taskflow.backend.config.CepProperties;
+import com.taskflow.backend.dto.CepBatchResultDTO;
 import com.taskflow.backend.dto.ViaCepResponseDTO;
+import com.taskflow.backend.mapper.CepMapper;
+import com.taskflow.backend.metrics.QueryStats;
+import com.taskflow.backend.model.CepCacheEntry;
+import com.taskflow.backend.repository.CepCacheRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * Consulta de CEP: índice local (se configurado), depois memória (Caffeine) e a tabela cep_cache,
+ * e só então o ViaCEP. Respostas "não encontrado" também são guardadas, com TTL menor.
+ * Se o ViaCEP falhar ou o circuito estiver aberto, serve o registro vencido da tabela, quando houver.
+ */
+@Slf4j
 @Service
 public class CepService {
 
-    private static final String VIACEP_URL = "https://viacep.com.br/ws/";
-    private final WebClient webClient;
+    private final ViaCepClient viaCepClient;
+    private final CepCacheRepository cepCacheRepository;
+    private final CepMapper cepMapper;
+    private final CepProperties properties;
+    private final CepIndex cepIndex;
+
+    // address nulo representa CEP inexistente; stale marca registro vencido servido por falha do ViaCEP
+    private record Lookup(ViaCepResponseDTO address, boolean stale) {
+    }
+
+    private final AsyncCache<String, Lookup> cache;
+    private final Counter storeHits;
+    private final Counter storeMisses;
+    private final Counter indexHits;
+    private final Counter indexMisses;
+
+    public CepService(ViaCepClient viaCepClient, CepCacheRepository cepCacheRepository, CepMapper cepMapper,
+            CepProperties properties, ObjectProvider<CepIndex> cepIndex, MeterRegistry meterRegistry) {
+        this.viaCepClient = viaCepClient;
+        this.cepCacheRepository = cepCacheRepository;
+        this.cepMapper = cepMapper;
+        this.properties = properties;
+        this.cepIndex = cepIndex.getIfAvailable();
 
-    public CepService(WebClient webClient) {
-        this.webClient = webClient.mutate().baseUrl(VIACEP_URL).build();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfter(Expiry.creating((String cep, Lookup lookup) -> lookup.address() != null && !lookup.stale()
+                        ? properties.getCacheTtl()
+                        : properties.getNotFoundTtl()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "cep");
+
+        this.storeHits = Counter.builder("cep.store.requests").tag("result", "hit").register(meterRegistry);
+        this.storeMisses = Counter.builder("cep.store.requests").tag("result", "miss").register(meterRegistry);
+        this.indexHits = Counter.builder("cep.index.requests").tag("result", "hit").register(meterRegistry);
+        this.indexMisses = Counter.builder("cep.index.requests").tag("result", "miss").register(meterRegistry);
     }
 
     public Mono<ViaCepResponseDTO> searchCep(String cep) {
-        if (cep == null || cep.length() != 8) {
+        String cleanCep = cep == null ? "" : cep.replaceAll("\\D", "");
+        if (cleanCep.length() != 8) {
             return Mono.empty();
         }
 
-        String cleanCep = cep.replaceAll("\\D", "");
+        if (cepIndex != null) {
+            var indexed = cepIndex.find(Integer.parseInt(cleanCep));
+            if (indexed.isPresent()) {
+                indexHits.increment();
+                return Mono.just(indexed.get());
+            }
+            indexMisses.increment();
+        }
 
-        return webClient.get()
-                .uri("/{cep}/json", cleanCep)
-                .retrieve()
-                .bodyToMono(ViaCepResponseDTO.class)
+        // Buscas simultâneas do mesmo CEP aguardam o mesmo carregamento.
+        // O cancelamento de um assinante não pode cancelar o carregamento compartilhado.
+        // O SQL do carregamento conta só para a requisição que o iniciou.
+        return Mono.deferContextual(context -> {
+            var pending = cache.get(cleanCep, (key, executor) -> load(key).contextWrite(context).toFuture());
+            return Mono.fromFuture(pending, true)
+                    // O Caffeine também descarta futuros com falha, mas de forma assíncrona
+                    .doOnError(e -> cache.asMap().remove(cleanCep, pending));
+        })
+                .flatMap(lookup -> Mono.justOrEmpty(lookup.address()))
                 .onErrorResume(e -> {
-                    System.err.println("Erro ao buscar CEP: " + e.getMessage());
+                    log.warn("Erro ao buscar CEP {}: {}", cleanCep, e.getMessage());
                     return Mono.empty();
+                })
+                .contextWrite(QueryStats::capture);
+    }
+
+    /**
+     * Resolve vários CEPs com concorrência limitada, preservando a ordem do pedido.
+     * CEPs inválidos, nulos ou inexistentes voltam com endereço nulo.
+     */
+    public Flux<CepBatchResultDTO> searchCeps(List<String> ceps) {
+        // O Reactor não aceita elementos nulos; um null no corpo JSON vira um item sem CEP
+        return Flux.fromIterable(ceps.stream().map(Optional::ofNullable).toList())
+                .flatMapSequential(entry -> {
+                    String cep = entry.orElse(null);
+                    return searchCep(cep)
+                            .map(address -> new CepBatchResultDTO(cep, address))
+                            .defaultIfEmpty(new CepBatchResultDTO(cep, null));
+                }, properties.getBatchConcurrency())
+                .contextWrite(QueryStats::capture);
+    }
+
+    private Mono<Lookup> load(String cep) {
+        return QueryStats.fromCallable(() -> cepCacheRepository.findById(cep))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(stored -> {
+                    if (stored.filter(this::isFresh).isPresent()) {
+                        storeHits.increment();
+                        return Mono.just(new Lookup(toAddress(stored.get()), false));
+                    }
+                    storeMisses.increment();
+                    if (!properties.isRemoteEnabled()) {
+                        return Mono.just(new Lookup(null, false));
+                    }
+                    return viaCepClient.fetch(cep)
+                            .flatMap(address -> store(cep, address))
+                            .map(address -> new Lookup(address.orElse(null), false))
+                            .onErrorResume(e -> stored.isPresent(), e -> {
+                                log.warn("ViaCEP indisponível, usando registro antigo do CEP {}: {}", cep, e.getMessage());
+                                return Mono.just(new Lookup(toAddress(stored.get()), true));
+                            });
+                });
+    }
+
+    // A gravação é só uma otimização: se falhar, a resposta continua válida
+    private Mono<Optional<ViaCepResponseDTO>> store(String cep, Optional<ViaCepResponseDTO> address) {
+        return QueryStats.fromCallable(() -> {
+            var entry = address.map(cepMapper::toEntry).orElseGet(CepCacheEntry::new);
+            entry.setCep(cep);
+            entry.setFound(address.isPresent());
+            entry.setFetchedAt(Instant.now());
+            cepCacheRepository.save(entry);
+            return address;
+        })
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Erro ao gravar CEP {} em cache: {}", cep, e.getMessage());
+                    return Mono.just(address);
                 });
     }
-}
\ No newline at end of file
+
+    private boolean isFresh(CepCacheEntry entry) {
+        Duration ttl = entry.isFound() ? properties.getStoreTtl() : properties.getNotFoundTtl();
+        return entry.getFetchedAt().plus(ttl).isAfter(Instant.now());
+    }
+
+    private ViaCepResponseDTO toAddress(CepCacheEntry entry) {
+        return entry.isFound() ? cepMapper.toResponseDTO(entry) : null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskflow.backend.service;
+
+import java.util.List;
+
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.ProjectVersionRow;
+
+/**
+ * ETags derivados das colunas {@code @Version}.
+ * A resposta de projeto inclui as tarefas, então o ETag do projeto também muda quando uma tarefa é criada,
+ * removida ou alterada: a quantidade, a soma dos ids e a soma das versões cobrem esses três casos sem
+ * exigir que escritas em tarefas incrementem a versão do projeto.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String forTask(Task task) {
+        return forTask(task.getVersion());
+    }
+
+    public static String forTask(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String forProject(ProjectVersionRow row) {
+        return forProject(row.getVersion(), row.getTaskCount(), row.getTaskIdSum(), row.getTaskVersionSum());
+    }
+
+    // Requer as tarefas inicializadas
+    public static String forProject(Project project) {
+        List<Task> tasks = project.getTasks() == null ? List.of() : project.getTasks();
+        long idSum = 0;
+        long versionSum = 0;
+        for (Task task : tasks) {
+            idSum += task.getId();
+            versionSum += task.getVersion();
+        }
+        return forProject(project.getVersion(), tasks.size(), idSum, versionSum);
+    }
+
+    private static String forProject(long version, long taskCount, long taskIdSum, long taskVersionSum) {
+        return "\"" + version + "-" + taskCount + "-" + Long.toHexString(taskIdSum) + "-" + taskVersionSum + "\"";
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskflow.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    // Quantidade de linhas entre cada limpeza do contexto de persistência e flush da saída
+    private static final int BATCH_SIZE = 500;
+
+    private static final Map<String, Function<Project, Object>> PROJECT_COLUMNS = new LinkedHashMap<>();
+    private static final Map<String, Function<Task, Object>> TASK_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        PROJECT_COLUMNS.put("id", Project::getId);
+        PROJECT_COLUMNS.put("title", Project::getTitle);
+        PROJECT_COLUMNS.put("description", Project::getDescription);
+        PROJECT_COLUMNS.put("status", Project::getStatus);
+        PROJECT_COLUMNS.put("startDate", Project::getStartDate);
+        PROJECT_COLUMNS.put("endDate", Project::getEndDate);
+        PROJECT_COLUMNS.put("cep", Project::getCep);
+        PROJECT_COLUMNS.put("logradouro", Project::getLogradouro);
+        PROJECT_COLUMNS.put("bairro", Project::getBairro);
+        PROJECT_COLUMNS.put("cidade", Project::getCidade);
+        PROJECT_COLUMNS.put("uf", Project::getUf);
+        PROJECT_COLUMNS.put("numero", Project::getNumero);
+
+        TASK_COLUMNS.put("id", Task::getId);
+        // Ler o id do proxy LAZY não inicializa o projeto
+        TASK_COLUMNS.put("projectId", task -> task.getProject().getId());
+        TASK_COLUMNS.put("title", Task::getTitle);
+        TASK_COLUMNS.put("description", Task::getDescription);
+        TASK_COLUMNS.put("dueDate", Task::getDueDate);
+        TASK_COLUMNS.put("priority", Task::getPriority);
+        TASK_COLUMNS.put("status", Task::getStatus);
+    }
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportProjects(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<Project> projects = projectRepository.streamAllBy()) {
+            write(projects, PROJECT_COLUMNS, format, output);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamAllBy()) {
+            write(tasks, TASK_COLUMNS, format, output);
+        }
+    }
+
+    private <T> void write(Stream<T> rows, Map<String, Function<T, Object>> columns, ExportFormat format,
+            OutputStream output) throws IOException {
+
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", columns.keySet()));
+            writer.write('\n');
+        }
+
+        var iterator = rows.iterator();
+        long count = 0;
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, row, columns);
+            } else {
+                writeJsonLine(writer, row, columns);
+            }
+
+            if (++count % BATCH_SIZE == 0) {
+                // Descarta as entidades já escritas para manter a memória constante
+                entityManager.clear();
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private <T> void writeJsonLine(Writer writer, T row, Map<String, Function<T, Object>> columns)
+            throws IOException {
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        columns.forEach((name, getter) -> values.put(name, getter.apply(row)));
+        writer.write(objectMapper.writeValueAsString(values));
+        writer.write('\n');
+    }
+
+    private <T> void writeCsvLine(Writer writer, T row, Map<String, Function<T, Object>> columns)
+            throws IOException {
+
+        boolean first = true;
+        for (var getter : columns.values()) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write(escapeCsv(getter.apply(row)));
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
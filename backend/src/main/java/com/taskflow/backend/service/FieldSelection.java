@@ -0,0 +1,65 @@
+package com.taskflow.backend.service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Interpreta os parâmetros {@code fields} e {@code include} das rotas de leitura.
+ */
+final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    // Campos cujo nome de saída coincide com o atributo da entidade
+    static Map<String, String> attributes(String... names) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String name : names) {
+            fields.put(name, name);
+        }
+        return fields;
+    }
+
+    static Map<String, String> parseFields(String fields, Map<String, String> available) {
+        Map<String, String> selected = new LinkedHashMap<>();
+        for (String field : split(fields)) {
+            String path = available.get(field);
+            if (path == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Campo desconhecido: " + field + ". Disponíveis: " + String.join(",", available.keySet()));
+            }
+            selected.put(field, path);
+        }
+        if (selected.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe ao menos um campo em 'fields'.");
+        }
+        return selected;
+    }
+
+    static boolean includes(String include, String relation, Set<String> available) {
+        Set<String> requested = split(include);
+        for (String name : requested) {
+            if (!available.contains(name)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Relação desconhecida em 'include': " + name);
+            }
+        }
+        return requested.contains(relation);
+    }
+
+    private static Set<String> split(String value) {
+        if (value == null) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskflow.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.model.Project;
+
+/**
+ * Posição de leitura na ordenação estável (startDate, id) da listagem de projetos.
+ * Trafega para o cliente como uma string Base64 opaca.
+ */
+record ProjectCursor(LocalDate startDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    static ProjectCursor of(Project project) {
+        return new ProjectCursor(project.getStartDate(), project.getId());
+    }
+
+    String encode() {
+        String raw = startDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProjectCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ProjectCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor de paginação inválido.");
+        }
+    }
+}
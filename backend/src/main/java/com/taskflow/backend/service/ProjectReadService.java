@@ -0,0 +1,101 @@
+package com.taskflow.backend.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.dto.ProjectResponseDTO;
+import com.taskflow.backend.dto.TaskFilterDTO;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.mapper.ProjectMapper;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.repository.reactive.ProjectReadRepository;
+import com.taskflow.backend.repository.reactive.ProjectRow;
+import com.taskflow.backend.repository.reactive.TaskReadRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Leituras de projetos e tarefas sobre R2DBC, entregues como {@link Flux} sem prender uma thread
+ * por requisição. O consumo do cliente controla a leitura do banco: a próxima página só é buscada
+ * depois que a anterior foi escrita.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ProjectReadService {
+
+    // Mesmo tamanho do @BatchSize de Project.tasks: uma consulta de tarefas por página de projetos
+    static final int PAGE_SIZE = 100;
+
+    private final ProjectReadRepository projectReadRepository;
+    private final TaskReadRepository taskReadRepository;
+    private final ProjectMapper projectMapper;
+    private final TaskMapper taskMapper;
+
+    public Flux<ProjectResponseDTO> streamProjects(String after, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O limite deve ser maior que zero.");
+        }
+        var start = after == null || after.isBlank() ? null : ProjectCursor.decode(after);
+
+        var projects = fetchPage(start)
+                .expand(page -> page.next() == null ? Mono.empty() : fetchPage(page.next()))
+                .flatMapIterable(Page::items, 1);
+
+        return limit == null ? projects : projects.take(limit, true);
+    }
+
+    public Flux<TaskResponseDTO> streamTasks(@NonNull Long projectId, TaskFilterDTO filter) {
+        return projectReadRepository.existsById(projectId)
+                .flatMapMany(exists -> {
+                    if (!exists) {
+                        return Flux.error(new RuntimeException("Projeto não encontrado com ID: " + projectId));
+                    }
+                    return taskReadRepository.findMatching(projectId, filter).map(taskMapper::toResponseDTO);
+                });
+    }
+
+    private Mono<Page> fetchPage(ProjectCursor cursor) {
+        var rows = cursor == null
+                ? projectReadRepository.findFirstPage(PAGE_SIZE)
+                : projectReadRepository.findPageAfter(cursor.startDate(), cursor.id(), PAGE_SIZE);
+
+        return rows.collectList().flatMap(projects -> {
+            if (projects.isEmpty()) {
+                return Mono.just(new Page(List.of(), null));
+            }
+            var last = projects.get(projects.size() - 1);
+            var next = projects.size() < PAGE_SIZE ? null : new ProjectCursor(last.getStartDate(), last.getId());
+            return withTasks(projects).map(items -> new Page(items, next));
+        });
+    }
+
+    private Mono<List<ProjectResponseDTO>> withTasks(List<ProjectRow> projects) {
+        var ids = projects.stream().map(ProjectRow::getId).toList();
+        return taskReadRepository.findByProjectIdInOrderByDueDateAscIdAsc(ids)
+                .map(taskMapper::toResponseDTO)
+                .collectMultimap(TaskResponseDTO::getProjectId)
+                .map(tasksByProject -> projects.stream()
+                        .map(row -> toResponseDTO(row, tasksByProject))
+                        .toList());
+    }
+
+    private ProjectResponseDTO toResponseDTO(ProjectRow row,
+            Map<Long, Collection<TaskResponseDTO>> tasksByProject) {
+        var dto = projectMapper.toResponseDTO(row);
+        dto.setTasks(List.copyOf(tasksByProject.getOrDefault(row.getId(), List.of())));
+        return dto;
+    }
+
+    private record Page(List<ProjectResponseDTO> items, ProjectCursor next) {
+    }
+}
@@ -1,13 +1,39 @@
 package com.taskflow.backend.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.taskflow.backend.dto.CursorPageResponseDTO;
+import com.taskflow.backend.events.ProjectChange;
 import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.Tombstone;
 import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.ProjectSpecifications;
+import com.taskflow.backend.repository.ProjectVersionRow;
+import com.taskflow.backend.repository.ProjectionRepository;
+import com.taskflow.backend.repository.TaskSpecifications;
+import com.taskflow.backend.repository.TombstoneRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,23 +41,127 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProjectService {
 
+    public static final int DEFAULT_PAGE_LIMIT = 20;
+    public static final int MAX_PAGE_LIMIT = 100;
+
+    public static final Map<String, String> PROJECT_FIELDS = Collections.unmodifiableMap(
+            FieldSelection.attributes("id", "title", "description", "status", "startDate", "endDate",
+                    "cep", "logradouro", "bairro", "cidade", "uf", "numero"));
+
+    private static final Set<String> PROJECT_RELATIONS = Set.of("tasks");
+
+    private static final Sort PAGE_ORDER = Sort.by("startDate", "id");
+
     private final ProjectRepository projectRepository;
+    private final ProjectionRepository projectionRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Project createProject(@NonNull Project project) {
         return projectRepository.save(project);
     }
 
-    public List<Project> findAllProjects() {
-        return projectRepository.findAll();
+    public CursorPageResponseDTO<Project> findProjectsPage(String after, Integer limit) {
+        int pageSize = pageSize(limit);
+        // Busca um registro a mais para saber se existe próxima página sem precisar de COUNT
+        var fetchLimit = Limit.of(pageSize + 1);
+
+        List<Project> projects;
+        if (after == null || after.isBlank()) {
+            projects = projectRepository.findFirstPage(fetchLimit);
+        } else {
+            var cursor = ProjectCursor.decode(after);
+            projects = projectRepository.findPageAfter(cursor.startDate(), cursor.id(), fetchLimit);
+        }
+
+        return toPage(projects, pageSize, ProjectCursor::of);
+    }
+
+    public CursorPageResponseDTO<Map<String, Object>> findProjectFieldsPage(
+            String after, Integer limit, String fields, String include) {
+
+        var selected = FieldSelection.parseFields(fields, PROJECT_FIELDS);
+        boolean includeTasks = FieldSelection.includes(include, "tasks", PROJECT_RELATIONS);
+        int pageSize = pageSize(limit);
+
+        // id e startDate são sempre lidos para montar o cursor, mesmo quando não foram pedidos
+        Map<String, String> columns = new LinkedHashMap<>(selected);
+        columns.put("id", "id");
+        columns.put("startDate", "startDate");
+
+        Specification<Project> specification = null;
+        if (after != null && !after.isBlank()) {
+            var cursor = ProjectCursor.decode(after);
+            specification = ProjectSpecifications.after(cursor.startDate(), cursor.id());
+        }
+
+        var rows = projectionRepository.findFields(Project.class, columns, specification, PAGE_ORDER, pageSize + 1);
+        var page = toPage(rows, pageSize,
+                row -> new ProjectCursor((LocalDate) row.get("startDate"), (Long) row.get("id")));
+
+        if (includeTasks) {
+            attachTasks(page.getItems());
+        }
+        page.getItems().forEach(row -> row.keySet().retainAll(withRelations(selected.keySet(), includeTasks)));
+        return page;
+    }
+
+    public Optional<Map<String, Object>> findProjectFieldsById(@NonNull Long id, String fields, String include) {
+        var selected = FieldSelection.parseFields(fields, PROJECT_FIELDS);
+        boolean includeTasks = FieldSelection.includes(include, "tasks", PROJECT_RELATIONS);
+
+        Map<String, String> columns = new LinkedHashMap<>(selected);
+        columns.put("id", "id");
+
+        var rows = projectionRepository.findFields(Project.class, columns, ProjectSpecifications.hasId(id),
+                Sort.unsorted(), 1);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (includeTasks) {
+            attachTasks(rows);
+        }
+        var row = rows.get(0);
+        row.keySet().retainAll(withRelations(selected.keySet(), includeTasks));
+        return Optional.of(row);
     }
 
     public Optional<Project> findProjectById(@NonNull Long id) {
         return projectRepository.findById(id);
     }
 
+    public boolean existsById(@NonNull Long id) {
+        return projectRepository.existsById(id);
+    }
+
+    public Project getReference(@NonNull Long id) {
+        return projectRepository.getReferenceById(id);
+    }
+
+    public Optional<Project> findProjectWithTasksById(@NonNull Long id) {
+        return projectRepository.findWithTasksById(id);
+    }
+
+    public Optional<ProjectVersionRow> findVersionById(@NonNull Long id) {
+        return projectRepository.findVersionById(id);
+    }
+
     public Project updateProject(@NonNull Long id, Project updatedProject) {
+        return updateProject(id, updatedProject, null);
+    }
+
+    /**
+     * @param expectedVersion versão informada via If-Match; {@code null} quando a requisição não é condicional
+     * @throws ResponseStatusException 412 se a versão não confere, 409 se outra escrita venceu a corrida
+     */
+    public Project updateProject(@NonNull Long id, Project updatedProject, Long expectedVersion) {
         return projectRepository.findById(id)
                 .map(project -> {
+                    if (expectedVersion != null && project.getVersion() != expectedVersion) {
+                        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                                "Projeto alterado desde a versão informada");
+                    }
 
                     project.setTitle(updatedProject.getTitle());
                     project.setDescription(updatedProject.getDescription());
@@ -47,15 +177,73 @@ public class ProjectService {
                     project.setUf(updatedProject.getUf());
                     project.setNumero(updatedProject.getNumero());
 
-                    return projectRepository.save(project);
+                    // O UPDATE só é aplicado se a versão no banco ainda for a carregada acima
+                    Project saved;
+                    try {
+                        saved = projectRepository.save(project);
+                    } catch (ObjectOptimisticLockingFailureException e) {
+                        throw new ResponseStatusException(
+                                expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                                "Projeto alterado por outra requisição");
+                    }
+                    eventPublisher.publishEvent(ProjectChange.projectUpdated(saved));
+                    return saved;
                 })
                 .orElseThrow(() -> new RuntimeException("Projeto não encontrado com o ID: " + id));
     }
 
-    public void deleteProject(@NonNull Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new RuntimeException("Projeto não encontrado com o ID: " + id);
+    // Carrega as tarefas de todos os projetos da página em uma única consulta
+    private void attachTasks(List<Map<String, Object>> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+        List<Long> ids = projects.stream().map(row -> (Long) row.get("id")).toList();
+
+        var tasks = projectionRepository.findFields(Task.class, TaskService.TASK_FIELDS,
+                TaskSpecifications.belongsToProjects(ids), Sort.by("id"), 0);
+        Map<Object, List<Map<String, Object>>> tasksByProject = tasks.stream()
+                .collect(Collectors.groupingBy(task -> task.get("projectId")));
+
+        projects.forEach(row -> row.put("tasks", tasksByProject.getOrDefault(row.get("id"), Collections.emptyList())));
+    }
+
+    private static Set<String> withRelations(Set<String> fields, boolean includeTasks) {
+        Set<String> keys = new HashSet<>(fields);
+        if (includeTasks) {
+            keys.add("tasks");
         }
-        projectRepository.deleteById(id);
+        return keys;
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+
+    private static <T> CursorPageResponseDTO<T> toPage(List<T> rows, int pageSize,
+            Function<T, ProjectCursor> cursorOf) {
+
+        if (rows.size() <= pageSize) {
+            return new CursorPageResponseDTO<>(rows, null);
+        }
+
+        var page = new ArrayList<>(rows.subList(0, pageSize));
+        var next = cursorOf.apply(page.get(pageSize - 1)).encode();
+        return new CursorPageResponseDTO<>(page, next);
+    }
+
+    @Transactional
+    public void deleteProject(@NonNull Long id) {
+        var project = projectRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Projeto não encontrado com o ID: " + id));
+
+        // As tarefas são removidas em cascata; cada uma também precisa de tombstone
+        var tombstones = new ArrayList<Tombstone>();
+        tombstones.add(Tombstone.ofProject(id));
+        project.getTasks().forEach(task -> tombstones.add(Tombstone.ofTask(task.getId(), id)));
+        tombstoneRepository.saveAll(tombstones);
+
+        projectRepository.delete(project);
+        // Encerra as conexões SSE do projeto depois do commit
+        eventPublisher.publishEvent(ProjectChange.projectDeleted(id, tombstones.get(0).getRevision()));
     }
 }
\ No newline at end of file
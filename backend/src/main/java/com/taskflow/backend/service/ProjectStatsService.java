@@ -0,0 +1,90 @@
+package com.taskflow.backend.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.dto.ProjectStatsDTO;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.repository.TaskStatsRow;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+    public static final int MAX_BULK_IDS = 500;
+
+    // Tarefas nesses status não contam como atrasadas nem como pendentes da semana
+    private static final Set<TaskStatus> CLOSED_STATUSES = EnumSet.of(TaskStatus.DONE, TaskStatus.CANCELED);
+
+    private final TaskRepository taskRepository;
+
+    @Transactional(readOnly = true)
+    public ProjectStatsDTO statsForProject(@NonNull Long projectId) {
+        var stats = statsForProjects(List.of(projectId), LocalDate.now());
+        if (stats.isEmpty()) {
+            throw new RuntimeException("Projeto não encontrado com ID: " + projectId);
+        }
+        return stats.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProjectStatsDTO> statsForProjects(Collection<Long> projectIds) {
+        return statsForProjects(projectIds, LocalDate.now());
+    }
+
+    // Ordenado pelo id do projeto; ids inexistentes não aparecem no resultado
+    List<ProjectStatsDTO> statsForProjects(Collection<Long> projectIds, LocalDate today) {
+        if (projectIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Informe os projetos em 'ids'.");
+        }
+        if (projectIds.size() > MAX_BULK_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "No máximo " + MAX_BULK_IDS + " projetos por consulta de estatísticas.");
+        }
+        return aggregate(taskRepository.countStatsByProjectIds(projectIds, today, endOfWeek(today), CLOSED_STATUSES));
+    }
+
+    // A semana termina no domingo; num domingo, só o próprio dia conta
+    private static LocalDate endOfWeek(LocalDate today) {
+        return today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+    }
+
+    private static List<ProjectStatsDTO> aggregate(List<TaskStatsRow> rows) {
+        Map<Long, ProjectStatsDTO> byProject = new LinkedHashMap<>();
+
+        for (TaskStatsRow row : rows) {
+            var stats = byProject.computeIfAbsent(row.getProjectId(), ProjectStatsDTO::new);
+            long total = row.getTotal();
+            if (total == 0) {
+                continue;
+            }
+            stats.setTotalTasks(stats.getTotalTasks() + total);
+            if (row.getStatus() != null) {
+                stats.getByStatus().merge(row.getStatus(), total, Long::sum);
+            }
+            if (row.getPriority() != null) {
+                stats.getByPriority().merge(row.getPriority(), total, Long::sum);
+            }
+            stats.setOverdue(stats.getOverdue() + row.getOverdue());
+            stats.setDueThisWeek(stats.getDueThisWeek() + row.getDueThisWeek());
+        }
+        return new ArrayList<>(byProject.values());
+    }
+}
@@ -0,0 +1,121 @@
+package com.taskflow.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.config.JwtProperties;
+import com.taskflow.backend.model.RefreshToken;
+import com.taskflow.backend.repository.RefreshTokenRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Refresh tokens opacos e rotativos. O cliente recebe um valor aleatório; o banco guarda apenas
+ * o SHA-256, de modo que validar um token é uma busca indexada, sem BCrypt.
+ * Reapresentar um token trocado há mais que a janela de tolerância revoga todos os tokens do usuário;
+ * dentro dela é apenas outra aba renovando com o mesmo token e recebe 401 sem revogação.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository repository;
+    private final JwtProperties jwtProperties;
+
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    /** Emite o primeiro token de uma nova família (login ou cadastro). */
+    @Transactional
+    public String issue(Long userId) {
+        repository.deleteExpiredByUserId(userId, Instant.now());
+        return create(userId, UUID.randomUUID().toString());
+    }
+
+    /** Troca um token válido por outro da mesma família; o token apresentado deixa de valer. */
+    @Transactional(noRollbackFor = ResponseStatusException.class)
+    public Rotation rotate(String rawToken) {
+        var now = Instant.now();
+        if (rawToken == null || rawToken.isBlank()) {
+            throw invalidToken();
+        }
+        var token = repository.findByTokenHash(hash(rawToken)).orElseThrow(RefreshTokenService::invalidToken);
+
+        if (token.getRevokedAt() != null || token.getExpiresAt().isBefore(now)) {
+            throw invalidToken();
+        }
+        if (token.getRotatedAt() != null) {
+            var grace = Duration.ofMillis(jwtProperties.getRefreshReuseGrace());
+            if (token.getRotatedAt().plus(grace).isBefore(now)) {
+                // Reuso: quem apresentou o token antigo pode ser um atacante; derruba todas as sessões
+                repository.revokeAllByUserId(token.getUserId(), now);
+            }
+            throw invalidToken();
+        }
+        if (repository.markRotated(token.getId(), now) == 0) {
+            // Outra requisição trocou o mesmo token neste instante
+            throw invalidToken();
+        }
+        return new Rotation(token.getUserId(), create(token.getUserId(), token.getFamily()));
+    }
+
+    /**
+     * Revoga a família do token informado (logout desta sessão) ou, com {@code allSessions},
+     * todos os refresh tokens do dono do token.
+     */
+    @Transactional
+    public void revoke(String rawToken, boolean allSessions) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return;
+        }
+        var now = Instant.now();
+        repository.findByTokenHash(hash(rawToken)).ifPresent(token -> {
+            if (allSessions) {
+                repository.revokeAllByUserId(token.getUserId(), now);
+            } else {
+                repository.revokeFamily(token.getFamily(), now);
+            }
+        });
+    }
+
+    private String create(Long userId, String family) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        var token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setUserId(userId);
+        token.setFamily(family);
+        token.setExpiresAt(Instant.now().plus(Duration.ofMillis(jwtProperties.getRefreshExpiration())));
+        repository.save(token);
+        return rawToken;
+    }
+
+    private static ResponseStatusException invalidToken() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Refresh token inválido ou expirado.");
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            var sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
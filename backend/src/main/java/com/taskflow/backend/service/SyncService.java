@@ -0,0 +1,128 @@
+package com.taskflow.backend.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.config.SyncProperties;
+import com.taskflow.backend.dto.SyncResponseDTO;
+import com.taskflow.backend.dto.TombstoneDTO;
+import com.taskflow.backend.mapper.ProjectMapper;
+import com.taskflow.backend.mapper.TaskMapper;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.Tombstone;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.repository.TombstoneRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sincronização incremental: projetos, tarefas e remoções com revisão maior que {@code since}.
+ * Sem alterações, uma chamada custa três buscas vazias nos índices de revisão.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 2000;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ProjectMapper projectMapper;
+    private final TaskMapper taskMapper;
+    private final SyncProperties properties;
+
+    @Transactional(readOnly = true)
+    public SyncResponseDTO changesSince(long since, Integer limit) {
+        if (since < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A revisão deve ser maior ou igual a zero.");
+        }
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "O limite deve estar entre 1 e " + MAX_LIMIT + ".");
+        }
+
+        var projects = changes(since, size,
+                projectRepository::findByRevisionGreaterThanOrderByRevisionAscIdAsc,
+                projectRepository::findByRevisionAndIdGreaterThanOrderByIdAsc,
+                Project::getRevision, Project::getId, Project::getModifiedAt);
+        var tasks = changes(since, size,
+                taskRepository::findByRevisionGreaterThanOrderByRevisionAscIdAsc,
+                taskRepository::findByRevisionAndIdGreaterThanOrderByIdAsc,
+                Task::getRevision, Task::getId, Task::getModifiedAt);
+        var tombstones = changes(since, size,
+                tombstoneRepository::findByRevisionGreaterThanOrderByRevisionAscIdAsc,
+                tombstoneRepository::findByRevisionAndIdGreaterThanOrderByIdAsc,
+                Tombstone::getRevision, Tombstone::getId, Tombstone::getDeletedAt);
+
+        var settledBefore = Instant.now().minus(properties.getSettleWindow());
+        long revision = since;
+        long truncatedAt = Long.MAX_VALUE;
+        for (var chunk : List.of(projects, tasks, tombstones)) {
+            revision = Math.max(revision, chunk.settledRevision(settledBefore));
+            if (chunk.truncated()) {
+                truncatedAt = Math.min(truncatedAt, chunk.lastRevision());
+            }
+        }
+        // Uma lista cortada no limite segura o cursor: as outras reenviam o excedente na próxima chamada
+        revision = Math.min(revision, truncatedAt);
+
+        return new SyncResponseDTO(
+                projects.items().stream().map(projectMapper::toSummaryDTO).toList(),
+                tasks.items().stream().map(taskMapper::toResponseDTO).toList(),
+                tombstones.items().stream()
+                        .map(t -> new TombstoneDTO(t.getEntityType(), t.getEntityId(), t.getProjectId()))
+                        .toList(),
+                revision,
+                truncatedAt != Long.MAX_VALUE && revision > since);
+    }
+
+    // Uma transação grava várias linhas com a mesma revisão; o lote nunca termina no meio de uma delas
+    private <T> Chunk<T> changes(long since, int size,
+            BiFunction<Long, Limit, List<T>> firstRows,
+            BiFunction<Long, Long, List<T>> restOfRevision,
+            Function<T, Long> revision, Function<T, Long> id, Function<T, Instant> changedAt) {
+
+        var items = firstRows.apply(since, Limit.of(size));
+        if (items.size() < size) {
+            return new Chunk<>(items, false, revision, changedAt);
+        }
+        var last = items.get(items.size() - 1);
+        var all = new ArrayList<>(items);
+        all.addAll(restOfRevision.apply(revision.apply(last), id.apply(last)));
+        return new Chunk<>(all, true, revision, changedAt);
+    }
+
+    private record Chunk<T>(List<T> items, boolean truncated, Function<T, Long> revision,
+            Function<T, Instant> changedAt) {
+
+        long lastRevision() {
+            return revision.apply(items.get(items.size() - 1));
+        }
+
+        // Maior revisão entre escritas antigas o bastante para que nenhuma revisão menor ainda esteja pendente
+        long settledRevision(Instant settledBefore) {
+            long settled = 0;
+            for (T item : items) {
+                var at = changedAt.apply(item);
+                if (at != null && at.isBefore(settledBefore)) {
+                    settled = Math.max(settled, revision.apply(item));
+                }
+            }
+            return settled;
+        }
+    }
+}
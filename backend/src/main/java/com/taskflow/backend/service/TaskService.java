@@ -1,65 +1,288 @@
 package com.taskflow.backend.service;
 
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.NonNull;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import com.taskflow.backend.dto.TaskFilterDTO;
+import com.taskflow.backend.dto.TaskTransitionRequestDTO;
+import com.taskflow.backend.events.ProjectChange;
 import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.Tombstone;
+import com.taskflow.backend.repository.ChangeRevisions;
+import com.taskflow.backend.repository.ProjectionRepository;
 import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.repository.TaskSpecifications;
+import com.taskflow.backend.repository.TombstoneRepository;
+
+import jakarta.persistence.EntityManager;
 
 @Service
 public class TaskService {
 
+    public static final int MAX_PAGE_SIZE = 200;
+
+    public static final Map<String, String> TASK_FIELDS;
+
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "title", "dueDate", "priority", "status");
+
+    private static final Sort DEFAULT_SORT = Sort.by("dueDate");
+
+    static {
+        var fields = FieldSelection.attributes("id", "title", "description", "dueDate", "priority", "status");
+        fields.put("projectId", "project.id");
+        TASK_FIELDS = Collections.unmodifiableMap(fields);
+    }
+
     private final TaskRepository taskRepository;
     private final ProjectService projectService;
+    private final ProjectionRepository projectionRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ChangeRevisions changeRevisions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
-    public TaskService(TaskRepository taskRepository, ProjectService projectService) {
+    public TaskService(TaskRepository taskRepository, ProjectService projectService,
+            ProjectionRepository projectionRepository, TombstoneRepository tombstoneRepository,
+            ChangeRevisions changeRevisions, ApplicationEventPublisher eventPublisher, EntityManager entityManager) {
         this.taskRepository = taskRepository;
         this.projectService = projectService;
+        this.projectionRepository = projectionRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeRevisions = changeRevisions;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     public Task createTask(@NonNull Long projectId, Task task) {
-        var project = projectService.findProjectById(projectId)
-                .orElseThrow(() -> new RuntimeException("Projeto não encontrado com ID: " + projectId));
+        // Referência sem SELECT; um projeto inexistente é detectado pela chave estrangeira no INSERT
+        task.setProject(projectService.getReference(projectId));
+
+        Task saved;
+        try {
+            saved = taskRepository.save(task);
+        } catch (DataIntegrityViolationException e) {
+            // Só a falha causada por projeto inexistente vira 404; as demais violações seguem como estão
+            if (!projectService.existsById(projectId)) {
+                throw new RuntimeException("Projeto não encontrado com ID: " + projectId, e);
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(ProjectChange.taskCreated(saved));
+        return saved;
+    }
+
+    @Transactional
+    public List<Task> createTasks(@NonNull Long projectId, List<Task> tasks) {
+        if (!projectService.existsById(projectId)) {
+            throw new RuntimeException("Projeto não encontrado com ID: " + projectId);
+        }
+        // Referência sem SELECT: o projeto só é usado como chave estrangeira
+        var project = projectService.getReference(projectId);
+        tasks.forEach(task -> task.setProject(project));
 
-        task.setProject(project);
+        var saved = taskRepository.saveAll(tasks);
+        saved.forEach(task -> eventPublisher.publishEvent(ProjectChange.taskCreated(task)));
+        return saved;
+    }
+
+    @Transactional
+    public int transitionTasks(@NonNull Long projectId, TaskTransitionRequestDTO transition) {
+        var target = transition.getTargetStatus();
+        boolean byIds = transition.getIds() != null && !transition.getIds().isEmpty();
+
+        if (!byIds && transition.getFromStatus() == target) {
+            return 0;
+        }
+        long revision = changeRevisions.current();
+        var now = Instant.now();
 
-        return taskRepository.save(task);
+        int updated;
+        if (byIds) {
+            updated = taskRepository.updateStatusByIds(projectId, transition.getIds(), target, revision, now);
+        } else if (transition.getDueBefore() != null) {
+            updated = taskRepository.updateStatusByStatusAndDueBefore(
+                    projectId, transition.getFromStatus(), transition.getDueBefore(), target, revision, now);
+        } else {
+            updated = taskRepository.updateStatusByStatus(projectId, transition.getFromStatus(), target,
+                    revision, now);
+        }
+        // Um único evento para o lote; os assinantes buscam as tarefas alteradas em /api/sync
+        if (updated > 0) {
+            // O Hibernate só invalida o cache L2 após o commit; leituras nesta transação veriam o status antigo
+            entityManager.getEntityManagerFactory().getCache().evict(Task.class);
+            eventPublisher.publishEvent(ProjectChange.tasksChanged(projectId, revision));
+        }
+        return updated;
     }
 
-    public List<Task> findAllTasksByProjectId(@NonNull Long projectId) {
-        if (!projectService.findProjectById(projectId).isPresent()) {
+    public Page<Task> findTasksByProjectId(@NonNull Long projectId, TaskFilterDTO filter, Pageable pageable) {
+        if (!projectService.existsById(projectId)) {
             throw new RuntimeException("Projeto não encontrado com ID: " + projectId);
         }
-        return taskRepository.findByProjectId(projectId);
+        var page = normalize(pageable);
+        return taskRepository.findAll(sorted(TaskSpecifications.matching(projectId, filter), page), unsorted(page));
+    }
+
+    public Page<Map<String, Object>> findTaskFieldsByProjectId(@NonNull Long projectId, TaskFilterDTO filter,
+            Pageable pageable, String fields) {
+
+        if (!projectService.existsById(projectId)) {
+            throw new RuntimeException("Projeto não encontrado com ID: " + projectId);
+        }
+        var selected = FieldSelection.parseFields(fields, TASK_FIELDS);
+        var page = normalize(pageable);
+        return projectionRepository.findFields(Task.class, selected,
+                sorted(TaskSpecifications.matching(projectId, filter), page), unsorted(page));
     }
 
     public Optional<Task> findTaskByIdAndProjectId(Long taskId, Long projectId) {
-        return taskRepository.findByIdAndProjectId(taskId, projectId);
+        // Busca pelo id para aproveitar o cache L2; o id do projeto vem do proxy, sem inicializá-lo
+        return taskRepository.findById(Objects.requireNonNull(taskId))
+                .filter(task -> task.getProject().getId().equals(projectId));
+    }
+
+    public Optional<Map<String, Object>> findTaskFieldsByIdAndProjectId(Long taskId, Long projectId, String fields) {
+        var selected = FieldSelection.parseFields(fields, TASK_FIELDS);
+        var specification = TaskSpecifications.hasId(taskId).and(TaskSpecifications.belongsToProject(projectId));
+        return projectionRepository.findFields(Task.class, selected, specification, Sort.unsorted(), 1)
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<Long> findVersion(Long projectId, Long taskId) {
+        return taskRepository.findVersionByIdAndProjectId(taskId, projectId);
     }
 
     public Task updateTask(Long projectId, Long taskId, Task taskDetails) {
+        return updateTask(projectId, taskId, taskDetails, null);
+    }
+
+    /**
+     * @param expectedVersion versão informada via If-Match; {@code null} quando a requisição não é condicional
+     * @throws ResponseStatusException 412 se a versão não confere, 409 se outra escrita venceu a corrida
+     */
+    public Task updateTask(Long projectId, Long taskId, Task taskDetails, Long expectedVersion) {
         var existingTask = findTaskByIdAndProjectId(taskId, projectId)
                 .orElseThrow(() -> new RuntimeException(
                         "Tarefa não encontrada com ID: " + taskId + " no Projeto: " + projectId));
 
-        existingTask.setTitle(taskDetails.getTitle());
-        existingTask.setDescription(taskDetails.getDescription());
-        existingTask.setDueDate(taskDetails.getDueDate());
-        existingTask.setPriority(taskDetails.getPriority());
-        existingTask.setStatus(taskDetails.getStatus());
+        if (expectedVersion != null && existingTask.getVersion() != expectedVersion) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED,
+                    "Tarefa alterada desde a versão informada");
+        }
+
+        copyEditableFields(taskDetails, existingTask);
+
+        // O UPDATE só é aplicado se a versão no banco ainda for a carregada acima
+        Task saved;
+        try {
+            saved = taskRepository.save(existingTask);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(
+                    expectedVersion != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT,
+                    "Tarefa alterada por outra requisição");
+        }
+        eventPublisher.publishEvent(ProjectChange.taskUpdated(saved));
+        return saved;
+    }
+
+    /**
+     * Atualiza, em uma transação e com UPDATEs em lote, as tarefas do projeto com os ids de {@code changes}.
+     * Tarefas de outros projetos ou inexistentes são ignoradas; as com versão diferente da esperada são
+     * devolvidas em {@link BatchUpdate#conflicts()} sem alteração.
+     *
+     * @throws ResponseStatusException 409 se outra escrita alterar alguma das tarefas durante o lote
+     */
+    @Transactional
+    public BatchUpdate updateTasks(@NonNull Long projectId, Map<Long, Task> changes, Map<Long, Long> expectedVersions) {
+        var updated = new LinkedHashMap<Long, Task>();
+        var conflicts = new LinkedHashSet<Long>();
+
+        for (var task : taskRepository.findByProjectIdAndIdIn(projectId, changes.keySet())) {
+            var expectedVersion = expectedVersions.get(task.getId());
+            if (expectedVersion != null && task.getVersion() != expectedVersion) {
+                conflicts.add(task.getId());
+                continue;
+            }
+            copyEditableFields(changes.get(task.getId()), task);
+            updated.put(task.getId(), task);
+        }
+
+        // Flush explícito: versão e revisão finais antes da resposta, e o conflito vira 409 aqui
+        try {
+            taskRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Tarefa alterada por outra requisição");
+        }
+        updated.values().forEach(task -> eventPublisher.publishEvent(ProjectChange.taskUpdated(task)));
+        return new BatchUpdate(updated, conflicts);
+    }
+
+    public record BatchUpdate(Map<Long, Task> updated, Set<Long> conflicts) {
+    }
+
+    private static void copyEditableFields(Task source, Task target) {
+        target.setTitle(source.getTitle());
+        target.setDescription(source.getDescription());
+        target.setDueDate(source.getDueDate());
+        target.setPriority(source.getPriority());
+        target.setStatus(source.getStatus());
+    }
+
+    private static Pageable normalize(Pageable pageable) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT;
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Ordenação não suportada: " + order.getProperty());
+            }
+        }
+        // Desempate pelo id para que a paginação seja estável
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by("id"));
+        }
+        int size = Math.min(pageable.getPageSize(), MAX_PAGE_SIZE);
+        return PageRequest.of(pageable.getPageNumber(), size, sort);
+    }
+
+    // A ordenação vai na especificação, que ordena enums pela posição na declaração
+    private static Specification<Task> sorted(Specification<Task> specification, Pageable pageable) {
+        return specification.and(TaskSpecifications.orderedBy(pageable.getSort()));
+    }
 
-        return taskRepository.save(existingTask);
+    private static Pageable unsorted(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
     }
 
+    @Transactional
     public void deleteTask(Long projectId, Long taskId) {
         var existingTask = findTaskByIdAndProjectId(taskId, projectId)
                 .orElseThrow(() -> new RuntimeException(
                         "Tarefa não encontrada com ID: " + taskId + " no Projeto: " + projectId));
 
+        var tombstone = tombstoneRepository.save(Tombstone.ofTask(taskId, projectId));
         taskRepository.delete(Objects.requireNonNull(existingTask));
+        eventPublisher.publishEvent(ProjectChange.taskDeleted(projectId, taskId, tombstone.getRevision()));
     }
 }
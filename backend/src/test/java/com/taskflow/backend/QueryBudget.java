@@ -0,0 +1,65 @@
+package com.taskflow.backend;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.method.HandlerMethod;
+
+import com.taskflow.backend.metrics.QueryStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Verifica o número de comandos SQL informado pelo cabeçalho {@value QueryStats#QUERY_COUNT_HEADER}.
+ * Requer {@code application.query-inspection.expose-headers=true} no contexto de teste.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher withinQueryBudget(int maxQueries) {
+        return result -> {
+            String header = result.getResponse().getHeader(QueryStats.QUERY_COUNT_HEADER);
+            assertThat(header)
+                    .as("cabeçalho %s ausente em %s", QueryStats.QUERY_COUNT_HEADER, result.getRequest().getRequestURI())
+                    .isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("orçamento de SQL de %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(maxQueries);
+        };
+    }
+
+    /** Aplica o orçamento declarado para o handler que atendeu a requisição. */
+    public static ResultMatcher withinDeclaredQueryBudget(Map<String, Integer> budgets) {
+        return result -> {
+            assertThat(result.getHandler()).isInstanceOf(HandlerMethod.class);
+            String handler = handlerKey((HandlerMethod) result.getHandler());
+            assertThat(budgets).as("orçamento de SQL de %s", handler).containsKey(handler);
+            withinQueryBudget(budgets.get(handler)).match(result);
+        };
+    }
+
+    /**
+     * Para respostas que já foram enviadas quando a requisição termina (downloads e SSE), os cabeçalhos
+     * não podem mais ser escritos; a contagem é lida da métrica registrada pelo QueryStatsFilter.
+     */
+    public static void assertRecordedWithinQueryBudget(MeterRegistry meterRegistry, String method, String uri,
+            int maxQueries) {
+        var queries = meterRegistry.find("http.server.requests.queries")
+                .tag("method", method)
+                .tag("uri", uri)
+                .summary();
+        assertThat(queries).as("métrica de SQL ausente para %s %s", method, uri).isNotNull();
+        assertThat(queries.max())
+                .as("orçamento de SQL de %s %s", method, uri)
+                .isLessThanOrEqualTo(maxQueries);
+    }
+
+    /** Identifica o endpoint como {@code Controller#método}. */
+    public static String handlerKey(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "#" + handler.getMethod().getName();
+    }
+}
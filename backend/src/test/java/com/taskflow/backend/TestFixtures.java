@@ -0,0 +1,70 @@
+package com.taskflow.backend;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserRole;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * Usuário autenticado e grafo projeto/tarefas usados pelos testes de controller.
+ * Os objetos são montados sem persistir; quem chama salva pelo repositório.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /** Grava um usuário com o e-mail informado e devolve o cabeçalho Authorization com um JWT dele. */
+    public static String bearerToken(UserRepository userRepository, JwtService jwtService, String email) {
+        return bearerToken(userRepository, jwtService, email, UserRole.USER);
+    }
+
+    public static String bearerToken(UserRepository userRepository, JwtService jwtService, String email,
+            UserRole role) {
+        var user = new User();
+        user.setEmail(email);
+        user.setPassword("-");
+        user.setName(email.substring(0, email.indexOf('@')));
+        user.setRole(role);
+        userRepository.save(user);
+        return "Bearer " + jwtService.generateToken(user);
+    }
+
+    public static MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request, String token) {
+        return request.header(HttpHeaders.AUTHORIZATION, token).contentType(MediaType.APPLICATION_JSON);
+    }
+
+    /** Projeto em andamento, ainda sem tarefas. */
+    public static Project project(String title, LocalDate startDate) {
+        var project = new Project();
+        project.setTitle(title);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(startDate);
+        project.setTasks(new ArrayList<>());
+        return project;
+    }
+
+    public static Task addTask(Project project, String title, TaskPriority priority, TaskStatus status,
+            LocalDate dueDate) {
+        var task = new Task();
+        task.setTitle(title);
+        task.setPriority(priority);
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+        task.setProject(project);
+        project.getTasks().add(task);
+        return task;
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskflow.backend.cep;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CepIndexTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void findsIndexedCepsAndMissesTheOthers() throws IOException {
+        var index = build("""
+                cep;logradouro;bairro;cidade;uf;ibge
+                20040-002;Rua da Assembleia;Centro;Rio de Janeiro;RJ;3304557
+                01001-000;Praça da Sé;Sé;São Paulo;SP;3550308
+                01310-100;"Avenida Paulista; lado ímpar";Bela Vista;São Paulo;SP;3550308
+                69900-001;;;Rio Branco;AC;1200401
+                """);
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.find(1001000)).hasValueSatisfying(address -> {
+            assertThat(address.getCep()).isEqualTo("01001-000");
+            assertThat(address.getLogradouro()).isEqualTo("Praça da Sé");
+            assertThat(address.getBairro()).isEqualTo("Sé");
+            assertThat(address.getLocalidade()).isEqualTo("São Paulo");
+            assertThat(address.getUf()).isEqualTo("SP");
+        });
+        assertThat(index.find(1310100)).hasValueSatisfying(
+                address -> assertThat(address.getLogradouro()).isEqualTo("Avenida Paulista; lado ímpar"));
+        assertThat(index.find(69900001)).hasValueSatisfying(address -> {
+            assertThat(address.getLogradouro()).isNull();
+            assertThat(address.getLocalidade()).isEqualTo("Rio Branco");
+        });
+        assertThat(index.find(20040002)).isPresent();
+        assertThat(index.find(1001001)).isEmpty();
+        assertThat(index.find(0)).isEmpty();
+        assertThat(index.find(99999999)).isEmpty();
+    }
+
+    @Test
+    void repeatedStringsAreStoredOnce() throws IOException {
+        var csv = new StringBuilder("uf,cidade,bairro,logradouro,cep\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append("SP,São Paulo,Sé,Praça da Sé,").append(10000000 + i).append('\n');
+        }
+        var index = build(csv.toString());
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(Files.size(directory.resolve("ceps.idx")))
+                .isLessThan(CepIndex.HEADER_BYTES + 1000L * CepIndex.RECORD_BYTES + 100);
+        assertThat(index.find(10000999)).hasValueSatisfying(address -> assertThat(address.getUf()).isEqualTo("SP"));
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredColumns() throws IOException {
+        assertThatThrownBy(() -> build("cep;cidade\n01001000;São Paulo\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("logradouro");
+    }
+
+    @Test
+    void rejectsFilesThatAreNotAnIndex() throws IOException {
+        var file = Files.writeString(directory.resolve("invalid.idx"), "not an index file");
+
+        assertThatThrownBy(() -> CepIndex.open(file)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsFilesShorterThanTheHeader() throws IOException {
+        var empty = Files.write(directory.resolve("empty.idx"), new byte[0]);
+        var shorter = Files.write(directory.resolve("short.idx"), new byte[] {0x43, 0x45, 0x50});
+
+        assertThatThrownBy(() -> CepIndex.open(empty)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CepIndex.open(shorter)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTruncatedIndexes() throws IOException {
+        build("cep,logradouro,bairro,cidade,uf\n01001000,Praça da Sé,Sé,São Paulo,SP\n");
+        var index = Files.readAllBytes(directory.resolve("ceps.idx"));
+
+        for (int length : new int[] {CepIndex.HEADER_BYTES, CepIndex.HEADER_BYTES + CepIndex.RECORD_BYTES,
+                index.length - 1}) {
+            var truncated = Files.write(directory.resolve("truncated.idx"), Arrays.copyOf(index, length));
+
+            assertThatThrownBy(() -> CepIndex.open(truncated))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Índice de CEP truncado ou corrompido");
+        }
+    }
+
+    private CepIndex build(String csv) throws IOException {
+        var input = Files.writeString(directory.resolve("ceps.csv"), csv);
+        var output = directory.resolve("ceps.idx");
+        CepIndexBuilder.build(input, output);
+        return CepIndex.open(output);
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.backend.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionLimitingDataSourceTests {
+
+    private DataSource target;
+    private Connection connection;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    void waitsForAPermitAndGivesUpAfterTheTimeout() throws SQLException {
+        var held = dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        held.close();
+        verify(connection).close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void closingTwiceReleasesASinglePermit() throws SQLException {
+        var held = dataSource.getConnection();
+        held.close();
+        held.close();
+
+        dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void failedAcquisitionFromThePoolReturnsThePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool esgotado")).thenReturn(connection);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool esgotado");
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+}
@@ -0,0 +1,159 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.addTask;
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.taskflow.backend.TestFixtures;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * ETags derivados de @Version: If-None-Match revalida leituras, If-Match protege atualizações.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTests {
+
+    private static final String TASK_JSON = """
+            {"title":"Tarefa revisada","dueDate":"2025-03-01","priority":"HIGH","status":"DONE"}
+            """;
+
+    private static final String PROJECT_JSON = """
+            {"title":"Projeto revisado","status":"TO_DO","startDate":"2025-01-01","cep":"01001000","numero":"10"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String token;
+    private Long projectId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "etag@taskflow.com");
+
+        var project = project("Projeto", LocalDate.of(2025, 1, 1));
+        addTask(project, "Tarefa", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, LocalDate.of(2025, 2, 1));
+        project = projectRepository.save(project);
+        projectId = project.getId();
+        taskId = project.getTasks().get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return TestFixtures.authenticated(request, token);
+    }
+
+    private String etagOf(MockHttpServletRequestBuilder request) throws Exception {
+        var etag = mockMvc.perform(authenticated(request))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+        return etag;
+    }
+
+    @Test
+    void unchangedProjectIsNotResent() throws Exception {
+        var etag = etagOf(get("/api/projects/{id}", projectId));
+
+        mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void projectEtagChangesWithItsTasks() throws Exception {
+        var initial = etagOf(get("/api/projects/{id}", projectId));
+
+        mockMvc.perform(authenticated(put("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId))
+                        .content(TASK_JSON))
+                .andExpect(status().isOk());
+        var afterUpdate = etagOf(get("/api/projects/{id}", projectId));
+
+        mockMvc.perform(authenticated(post("/api/projects/{projectId}/tasks", projectId)).content(TASK_JSON))
+                .andExpect(status().isCreated());
+        var afterCreate = etagOf(get("/api/projects/{id}", projectId));
+
+        mockMvc.perform(authenticated(post("/api/projects/{projectId}/tasks:transition", projectId))
+                        .content("{\"fromStatus\":\"DONE\",\"targetStatus\":\"CANCELED\"}"))
+                .andExpect(status().isOk());
+        var afterTransition = etagOf(get("/api/projects/{id}", projectId));
+
+        assertThat(List.of(initial, afterUpdate, afterCreate, afterTransition)).doesNotHaveDuplicates();
+        mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)).header(HttpHeaders.IF_NONE_MATCH, initial))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void taskUpdateWithCurrentEtagSucceedsAndStaleEtagIsRejected() throws Exception {
+        var etag = etagOf(get("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId));
+
+        var updated = mockMvc.perform(authenticated(put("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId))
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content(TASK_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isNotEqualTo(etag);
+
+        mockMvc.perform(authenticated(put("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId))
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content(TASK_JSON))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void projectUpdateWithStaleEtagIsRejected() throws Exception {
+        var etag = etagOf(get("/api/projects/{id}", projectId));
+
+        var updated = mockMvc.perform(authenticated(put("/api/projects/{id}", projectId))
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content(PROJECT_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)).header(HttpHeaders.IF_NONE_MATCH, updated))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(authenticated(put("/api/projects/{id}", projectId))
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content(PROJECT_JSON))
+                .andExpect(status().isPreconditionFailed());
+    }
+}
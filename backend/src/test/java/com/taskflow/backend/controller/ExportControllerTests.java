@@ -0,0 +1,142 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.addTask;
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.TestFixtures;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportControllerTests {
+
+    // Acima do lote de 500 do ExportService, para passar pelas limpezas do contexto de persistência
+    private static final int TASKS = 1_201;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "export@taskflow.com");
+
+        var project = project("Obra, \"fase 1\"", LocalDate.of(2025, 1, 1));
+        project.setDescription("linha 1\nlinha 2");
+        project.setCidade("São Paulo");
+        for (int i = 0; i < TASKS; i++) {
+            addTask(project, "Tarefa " + i, TaskPriority.LOW, TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        }
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void csvEscapesCommasQuotesAndNewlines() throws Exception {
+        var body = mockMvc.perform(authenticated(get("/api/export/projects").param("format", "csv")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(body).isEqualTo(
+                "id,title,description,status,startDate,endDate,cep,logradouro,bairro,cidade,uf,numero\n"
+                        + projectId + ",\"Obra, \"\"fase 1\"\"\",\"linha 1\nlinha 2\",IN_PROGRESS,2025-01-01,,,,,"
+                        + "São Paulo,,\n");
+    }
+
+    @Test
+    void ndjsonHasOneObjectPerLineWithEveryColumn() throws Exception {
+        var body = mockMvc.perform(authenticated(get("/api/export/projects")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"projects.ndjson\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        var lines = body.split("\n");
+        assertThat(lines).hasSize(1);
+        var project = objectMapper.readTree(lines[0]);
+        assertThat(project.get("id").asLong()).isEqualTo(projectId);
+        assertThat(project.get("title").asText()).isEqualTo("Obra, \"fase 1\"");
+        assertThat(project.get("description").asText()).isEqualTo("linha 1\nlinha 2");
+        assertThat(project.get("endDate").isNull()).isTrue();
+        assertThat(project.get("cidade").asText()).isEqualTo("São Paulo");
+    }
+
+    @Test
+    void exportLargerThanABatchWritesEveryRowOnce() throws Exception {
+        var body = mockMvc.perform(authenticated(get("/api/export/tasks").param("format", "ndjson")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        var ids = new HashSet<Long>();
+        for (var line : body.split("\n")) {
+            var task = objectMapper.readTree(line);
+            assertThat(task.get("projectId").asLong()).isEqualTo(projectId);
+            ids.add(task.get("id").asLong());
+        }
+        assertThat(ids).hasSize(TASKS);
+
+        var csv = mockMvc.perform(authenticated(get("/api/export/tasks").param("format", "CSV")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        var rows = csv.split("\n");
+        assertThat(rows).hasSize(TASKS + 1);
+        assertThat(rows[0]).isEqualTo("id,projectId,title,description,dueDate,priority,status");
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        mockMvc.perform(authenticated(get("/api/export/tasks").param("format", "xml")))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return TestFixtures.authenticated(request, token);
+    }
+}
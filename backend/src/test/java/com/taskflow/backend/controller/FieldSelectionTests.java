@@ -0,0 +1,166 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.addTask;
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * {@code ?fields=} e {@code ?include=tasks} devolvem exatamente as chaves pedidas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class FieldSelectionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private List<Project> projects;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "fields@taskflow.com");
+
+        var created = new ArrayList<Project>();
+        for (int i = 0; i < 3; i++) {
+            var project = project("Projeto " + i, LocalDate.of(2025, 1, 1).plusDays(i));
+            project.setDescription("Descrição " + i);
+            for (int j = 0; j < 2; j++) {
+                addTask(project, "Tarefa " + i + "." + j, TaskPriority.HIGH, TaskStatus.TO_DO,
+                        LocalDate.of(2025, 2, 1).plusDays(j))
+                        .setDescription("Detalhe");
+            }
+            created.add(project);
+        }
+        projects = projectRepository.saveAll(created);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void projectListingReturnsOnlyTheRequestedFields() throws Exception {
+        var page = read(get("/api/projects").param("fields", "title,status").param("limit", "2"));
+
+        assertThat(page.get("items")).hasSize(2).allSatisfy(item ->
+                assertThat(fieldNames(item)).containsExactly("title", "status"));
+        assertThat(page.get("items").get(0).get("title").asText()).isEqualTo("Projeto 0");
+
+        // O cursor é montado com id e startDate mesmo quando eles não foram pedidos
+        var next = read(get("/api/projects").param("fields", "title")
+                .param("after", page.get("next").asText()));
+        assertThat(next.get("items")).singleElement().satisfies(item -> {
+            assertThat(fieldNames(item)).containsExactly("title");
+            assertThat(item.get("title").asText()).isEqualTo("Projeto 2");
+        });
+        assertThat(next.get("next").isNull()).isTrue();
+    }
+
+    @Test
+    void includeTasksAddsOnlyTheProjectsOwnTasks() throws Exception {
+        var project = projects.get(1);
+
+        var body = read(get("/api/projects/{id}", project.getId()).param("fields", "title").param("include", "tasks"));
+
+        assertThat(fieldNames(body)).containsExactly("title", "tasks");
+        assertThat(body.get("tasks")).hasSize(2).allSatisfy(task -> {
+            assertThat(fieldNames(task)).containsExactlyInAnyOrder(
+                    "id", "title", "description", "dueDate", "priority", "status", "projectId");
+            assertThat(task.get("projectId").asLong()).isEqualTo(project.getId());
+        });
+        assertThat(body.get("tasks").get(0).get("title").asText()).isEqualTo("Tarefa 1.0");
+
+        var listing = read(get("/api/projects").param("fields", "id").param("include", "tasks"));
+        assertThat(listing.get("items")).hasSize(3).allSatisfy(item -> {
+            assertThat(fieldNames(item)).containsExactly("id", "tasks");
+            assertThat(item.get("tasks")).hasSize(2).allSatisfy(task ->
+                    assertThat(task.get("projectId").asLong()).isEqualTo(item.get("id").asLong()));
+        });
+    }
+
+    @Test
+    void taskRoutesReturnOnlyTheRequestedFields() throws Exception {
+        var project = projects.get(0);
+        var taskId = project.getTasks().get(0).getId();
+
+        var page = read(get("/api/projects/{projectId}/tasks", project.getId()).param("fields", "title,dueDate"));
+        assertThat(page.get("totalElements").asLong()).isEqualTo(2);
+        assertThat(page.get("content")).hasSize(2).allSatisfy(task ->
+                assertThat(fieldNames(task)).containsExactly("title", "dueDate"));
+
+        var task = read(get("/api/projects/{projectId}/tasks/{taskId}", project.getId(), taskId)
+                .param("fields", "status,projectId"));
+        assertThat(fieldNames(task)).containsExactly("status", "projectId");
+        assertThat(task.get("status").asText()).isEqualTo("TO_DO");
+        assertThat(task.get("projectId").asLong()).isEqualTo(project.getId());
+    }
+
+    @Test
+    void unknownFieldsAndRelationsAreRejected() throws Exception {
+        var projectId = projects.get(0).getId();
+
+        expectBadRequest(get("/api/projects").param("fields", "title,password"));
+        expectBadRequest(get("/api/projects").param("fields", " , "));
+        expectBadRequest(get("/api/projects/{id}", projectId).param("fields", "title").param("include", "owner"));
+        expectBadRequest(get("/api/projects/{projectId}/tasks", projectId).param("fields", "project"));
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        var body = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private void expectBadRequest(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        var names = new ArrayList<String>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
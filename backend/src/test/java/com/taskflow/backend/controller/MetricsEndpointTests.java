@@ -0,0 +1,82 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.taskflow.backend.model.UserRole;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+@SpringBootTest(properties = "application.metrics.scrape-token=" + MetricsEndpointTests.SCRAPE_TOKEN)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsEndpointTests {
+
+    static final String SCRAPE_TOKEN = "scrape-secret";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void prometheusScrapeExposesRouteJpaPoolAndJwtMetrics() throws Exception {
+        var token = bearerToken(userRepository, jwtService, "metrics@taskflow.com");
+
+        mockMvc.perform(get("/api/projects").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+
+        var scrape = mockMvc.perform(get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + SCRAPE_TOKEN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+                .containsPattern("http_server_requests_seconds_bucket\\{[^}]*outcome=\"SUCCESS\"[^}]*uri=\"/api/projects\"")
+                .containsPattern("jwt_verification_seconds_bucket\\{[^}]*outcome=\"valid\"")
+                .contains("hikaricp_connections_active{")
+                .contains("hibernate_query_executions_total{")
+                .contains("hibernate_entities_loads_total{")
+                .contains("application=\"taskflow\"");
+    }
+
+    @Test
+    void scrapeRequiresTheScrapeToken() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer outro"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void userJwtDoesNotGrantTheScrape() throws Exception {
+        var token = bearerToken(userRepository, jwtService, "scrape@taskflow.com", UserRole.ADMIN);
+
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void metricsDetailsRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,133 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.TestFixtures;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * Paginação por cursor de {@code GET /api/projects}: ordem estável (startDate, id) entre páginas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectControllerTests {
+
+    // Acima do limite máximo de página, com quatro projetos por data de início
+    private static final int PROJECTS = 105;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private List<Long> orderedIds;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "cursor@taskflow.com");
+
+        var projects = new ArrayList<Project>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(project("Projeto " + i, LocalDate.of(2025, 1, 1).plusDays(i / 4)));
+        }
+        orderedIds = projectRepository.saveAll(projects).stream()
+                .sorted(Comparator.comparing(Project::getStartDate).thenComparing(Project::getId))
+                .map(Project::getId)
+                .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void pagesSplitWithinSharedStartDatesWithoutGapsOrDuplicates() throws Exception {
+        var seen = new ArrayList<Long>();
+        String after = null;
+        int pages = 0;
+        do {
+            var request = list().param("limit", "3");
+            if (after != null) {
+                request.param("after", after);
+            }
+            var page = read(request);
+            page.get("items").forEach(item -> seen.add(item.get("id").asLong()));
+            after = page.get("next").isNull() ? null : page.get("next").asText();
+            pages++;
+        } while (after != null);
+
+        assertThat(pages).isEqualTo(PROJECTS / 3);
+        assertThat(seen).containsExactlyElementsOf(orderedIds);
+    }
+
+    @Test
+    void malformedCursorIsRejected() throws Exception {
+        mockMvc.perform(list().param("after", "não-é-um-cursor"))
+                .andExpect(status().isBadRequest());
+        // Base64 válido, mas sem data e id
+        mockMvc.perform(list().param("after", "bGl4bw"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(list().param("fields", "title").param("after", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void limitIsClampedToOneThroughOneHundred() throws Exception {
+        assertThat(read(list()).get("items")).hasSize(20);
+        assertThat(read(list().param("limit", "0")).get("items")).hasSize(1);
+        assertThat(read(list().param("limit", "-5")).get("items")).hasSize(1);
+        assertThat(read(list().param("limit", "500")).get("items")).hasSize(100);
+
+        var last = read(list().param("limit", "500").param("after", read(list().param("limit", "100"))
+                .get("next").asText()));
+        assertThat(last.get("items")).hasSize(PROJECTS - 100);
+        assertThat(last.get("next").isNull()).isTrue();
+    }
+
+    private MockHttpServletRequestBuilder list() {
+        return TestFixtures.authenticated(get("/api/projects"), token);
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        var body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
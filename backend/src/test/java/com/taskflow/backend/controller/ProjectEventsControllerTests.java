@@ -0,0 +1,110 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+import com.taskflow.backend.service.ProjectService;
+import com.taskflow.backend.service.TaskService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectEventsControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "events@taskflow.com");
+
+        projectId = projectRepository.save(project("Projeto SSE", LocalDate.of(2025, 1, 1))).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void streamsCommittedTaskChangesUntilTheProjectIsDeleted() throws Exception {
+        var result = mockMvc.perform(get("/api/projects/" + projectId + "/events")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var task = new Task();
+        task.setTitle("Nova tarefa");
+        task.setDueDate(LocalDate.of(2025, 2, 1));
+        task.setPriority(TaskPriority.HIGH);
+        task.setStatus(TaskStatus.TO_DO);
+        var created = taskService.createTask(projectId, task);
+        taskService.deleteTask(projectId, created.getId());
+        projectService.deleteProject(projectId);
+
+        var body = awaitContaining(result, "event:PROJECT_DELETED");
+        assertThat(body).contains("event:TASK_CREATED", "\"title\":\"Nova tarefa\"", "event:TASK_DELETED",
+                "id:" + created.getRevision());
+        assertThat(body.indexOf("event:TASK_CREATED")).isLessThan(body.indexOf("event:TASK_DELETED"));
+        assertThat(body.indexOf("event:TASK_DELETED")).isLessThan(body.indexOf("event:PROJECT_DELETED"));
+    }
+
+    @Test
+    void unknownProjectIsRejectedBeforeStreaming() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/projects/" + (projectId + 1000) + "/events")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.TEXT_EVENT_STREAM)))
+                .hasRootCauseMessage("Projeto não encontrado com ID: " + (projectId + 1000));
+    }
+
+    private static String awaitContaining(MvcResult result, String marker) throws Exception {
+        var body = result.getResponse().getContentAsString();
+        for (int i = 0; i < 100 && !body.contains(marker); i++) {
+            Thread.sleep(50);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+}
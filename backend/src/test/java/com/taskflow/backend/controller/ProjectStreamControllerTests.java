@@ -0,0 +1,151 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.addTask;
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * As listagens em NDJSON são lidas via R2DBC do mesmo banco escrito pelo JPA.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ProjectStreamControllerTests {
+
+    private static final int PROJECTS = 130;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "stream@taskflow.com");
+
+        var projects = new ArrayList<Project>();
+        for (int i = 0; i < PROJECTS; i++) {
+            var project = project("Projeto " + i, LocalDate.of(2025, 1, 1).plusDays(i));
+            addTask(project, "Tarefa 0", TaskPriority.HIGH, TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+            addTask(project, "Tarefa 1", TaskPriority.LOW, TaskStatus.DONE, LocalDate.of(2025, 2, 2));
+            projects.add(project);
+        }
+        projectId = projectRepository.saveAll(projects).get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void streamsAllProjectsWithTasksAcrossPages() throws Exception {
+        var projects = stream("/api/projects");
+
+        assertThat(projects).hasSize(PROJECTS);
+        assertThat(projects).extracting(node -> node.get("title").asText())
+                .startsWith("Projeto 0", "Projeto 1")
+                .endsWith("Projeto " + (PROJECTS - 1));
+        assertThat(projects).allSatisfy(node -> assertThat(node.get("tasks")).hasSize(2));
+    }
+
+    @Test
+    void limitAndCursorMatchTheJsonListing() throws Exception {
+        var body = mockMvc.perform(get("/api/projects").param("limit", "20")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(20))
+                .andReturn().getResponse().getContentAsString();
+        var next = objectMapper.readTree(body).get("next").asText();
+
+        var projects = stream("/api/projects?limit=5&after=" + next);
+
+        assertThat(projects).extracting(node -> node.get("title").asText())
+                .containsExactly("Projeto 20", "Projeto 21", "Projeto 22", "Projeto 23", "Projeto 24");
+    }
+
+    @Test
+    void streamsFilteredTasksOfAProject() throws Exception {
+        // O r2dbc-h2 envia strings como CLOB, que o H2 não compara com colunas ENUM; o filtro por data
+        // passa pela mesma montagem de critérios
+        var tasks = stream("/api/projects/" + projectId + "/tasks?dueFrom=2025-02-02");
+
+        assertThat(tasks).hasSize(1);
+        assertThat(tasks.get(0).get("status").asText()).isEqualTo("DONE");
+        assertThat(tasks.get(0).get("projectId").asLong()).isEqualTo(projectId);
+    }
+
+    @Test
+    void jsonClientsStillUseTheBlockingListing() throws Exception {
+        mockMvc.perform(get("/api/projects/" + projectId + "/tasks")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_JSON, MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.length()").value(2));
+    }
+
+    private List<JsonNode> stream(String url) throws Exception {
+        var result = mockMvc.perform(get(url)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        var nodes = new ArrayList<JsonNode>();
+        for (var line : body.split("\n")) {
+            if (!line.isBlank()) {
+                nodes.add(objectMapper.readTree(line));
+            }
+        }
+        return nodes;
+    }
+}
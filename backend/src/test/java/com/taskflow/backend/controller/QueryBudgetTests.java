@@ -0,0 +1,479 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.QueryBudget.assertRecordedWithinQueryBudget;
+import static com.taskflow.backend.QueryBudget.withinDeclaredQueryBudget;
+import static com.taskflow.backend.QueryBudget.withinQueryBudget;
+import static com.taskflow.backend.TestFixtures.addTask;
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.QueryBudget;
+import com.taskflow.backend.TestFixtures;
+import com.taskflow.backend.metrics.QueryStats;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.RefreshTokenRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+import com.taskflow.backend.service.ProjectService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cada endpoint declara quantos comandos SQL pode executar; estourar o orçamento falha o build.
+ * A autenticação JWT monta o usuário a partir das claims e não entra no orçamento.
+ * Escritas incluem a leitura da revisão de sincronização (uma por transação) e remoções, o tombstone.
+ * Um endpoint novo sem entrada em {@link #BUDGETS} (ou isenção explícita) falha o teste de cobertura.
+ */
+@SpringBootTest(properties = {
+        "application.query-inspection.expose-headers=true",
+        "application.cep.remote-enabled=false"
+})
+@AutoConfigureMockMvc
+class QueryBudgetTests {
+
+    // Orçamento de cada endpoint, por Controller#método; variantes mais baratas podem exigir menos no próprio teste
+    static final Map<String, Integer> BUDGETS = Map.ofEntries(
+            entry("ProjectController#getAllProjects", 2),
+            entry("ProjectController#getProjectById", 1),
+            entry("ProjectController#getProjectsStats", 1),
+            entry("ProjectController#getProjectStats", 1),
+            entry("ProjectController#createProject", 3),
+            entry("ProjectController#updateProject", 3),
+            entry("ProjectController#deleteProject", 6),
+            entry("TaskController#getAllTasksByProject", 2),
+            entry("TaskController#getTaskById", 1),
+            entry("TaskController#createTask", 2),
+            entry("TaskController#updateTask", 2),
+            entry("TaskController#deleteTask", 3),
+            entry("TaskBatchController#createTasks", 3),
+            entry("TaskBatchController#updateTasks", 3),
+            entry("TaskBatchController#transitionTasks", 2),
+            // Busca por natural id, emissão do refresh token (limpeza dos vencidos + INSERT) e, no cadastro, o INSERT
+            entry("AuthController#register", 4),
+            entry("AuthController#authenticate", 4),
+            // Busca e marca o token antigo, grava o novo e carrega o usuário
+            entry("AuthController#refresh", 4),
+            entry("AuthController#logout", 2),
+            // Uma leitura da cep_cache por CEP fora da memória, feita no boundedElastic (o lote do teste tem dois)
+            entry("CepController#searchCep", 1),
+            entry("CepController#searchCeps", 2),
+            // Um único cursor, independentemente do número de linhas
+            entry("ExportController#exportProjects", 1),
+            entry("ExportController#exportTasks", 1),
+            // Três listas por revisão, cada uma com no máximo uma busca do restante da última revisão
+            entry("SyncController#changesSince", 6),
+            // Só a verificação de existência; os eventos chegam pelo broadcaster, sem SQL
+            entry("ProjectEventsController#streamEvents", 1));
+
+    // Leem pelo R2DBC, fora do DataSource JDBC instrumentado; não há o que contar
+    static final Set<String> UNBUDGETED = Set.of(
+            "ProjectStreamController#streamProjects",
+            "ProjectStreamController#streamTasks");
+
+    private static final String TASK_JSON = """
+            {"title":"Tarefa","dueDate":"2025-03-01","priority":"HIGH","status":"TO_DO"}
+            """;
+
+    private static final String PROJECT_JSON = """
+            {"title":"Projeto","status":"TO_DO","startDate":"2025-01-01","cep":"01001000","numero":"10"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    private String token;
+    private Long projectId;
+    private Long taskId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "budget@taskflow.com");
+
+        for (int i = 0; i < 5; i++) {
+            var project = project("Projeto " + i, LocalDate.of(2025, 1, 1).plusDays(i));
+            for (int j = 0; j < 3; j++) {
+                addTask(project, "Tarefa " + j, TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS,
+                        LocalDate.of(2025, 2, 1).plusDays(j));
+            }
+            project = projectRepository.save(project);
+            projectId = project.getId();
+            taskId = project.getTasks().get(0).getId();
+            taskIds = project.getTasks().stream().map(Task::getId).toList();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private MockHttpServletRequestBuilder authenticated(MockHttpServletRequestBuilder request) {
+        return TestFixtures.authenticated(request, token);
+    }
+
+    private static ResultMatcher withinDeclaredBudget() {
+        return withinDeclaredQueryBudget(BUDGETS);
+    }
+
+    @Test
+    void everyEndpointDeclaresABudget() {
+        var handlers = new HashSet<String>();
+        handlerMapping.getHandlerMethods().values().stream()
+                .filter(handler -> handler.getBeanType().getPackageName().startsWith("com.taskflow.backend"))
+                .map(QueryBudget::handlerKey)
+                .forEach(handlers::add);
+
+        var undeclared = new HashSet<>(handlers);
+        undeclared.removeAll(BUDGETS.keySet());
+        undeclared.removeAll(UNBUDGETED);
+        assertThat(undeclared).as("endpoints sem orçamento de SQL").isEmpty();
+
+        var stale = new HashSet<>(BUDGETS.keySet());
+        stale.addAll(UNBUDGETED);
+        stale.removeAll(handlers);
+        assertThat(stale).as("orçamentos de endpoints que não existem mais").isEmpty();
+    }
+
+    @Test
+    void authenticationDoesNotQueryTheDatabase() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)).param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStats.QUERY_COUNT_HEADER, "1"));
+    }
+
+    @Test
+    void listProjects() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects")))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void listProjectFields() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects").param("fields", "id,title")))
+                .andExpect(status().isOk())
+                .andExpect(withinQueryBudget(1));
+    }
+
+    @Test
+    void listProjectFieldsWithTasks() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects").param("fields", "id").param("include", "tasks")))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void getProject() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void revalidateProject() throws Exception {
+        var etag = mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(authenticated(get("/api/projects/{id}", projectId)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void getProjectStats() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects/{id}/stats", projectId)))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void getProjectsStatsInBulk() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects/stats").param("ids", projectId.toString(), "0")))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void createProject() throws Exception {
+        mockMvc.perform(authenticated(post("/api/projects")).content(PROJECT_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void updateProject() throws Exception {
+        mockMvc.perform(authenticated(put("/api/projects/{id}", projectId)).content(PROJECT_JSON))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void deleteProject() throws Exception {
+        mockMvc.perform(authenticated(delete("/api/projects/{id}", projectId)))
+                .andExpect(status().isNoContent())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void listTasks() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects/{projectId}/tasks", projectId)))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void listTaskFields() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects/{projectId}/tasks", projectId)
+                .param("fields", "id,status").param("status", "IN_PROGRESS")))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void getTask() throws Exception {
+        mockMvc.perform(authenticated(get("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void revalidateTask() throws Exception {
+        var etag = mockMvc.perform(authenticated(get("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(authenticated(get("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId))
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void createTask() throws Exception {
+        mockMvc.perform(authenticated(post("/api/projects/{projectId}/tasks", projectId)).content(TASK_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void createTasksInBatch() throws Exception {
+        var batch = "[" + String.join(",", TASK_JSON, TASK_JSON, TASK_JSON, TASK_JSON) + "]";
+        mockMvc.perform(authenticated(post("/api/projects/{projectId}/tasks:batch", projectId)).content(batch))
+                .andExpect(status().isCreated())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void updateTasksInBatch() throws Exception {
+        var batch = taskIds.stream()
+                .map(id -> "{\"id\":" + id + "," + TASK_JSON.strip().substring(1))
+                .collect(Collectors.joining(",", "[", "]"));
+        mockMvc.perform(authenticated(put("/api/projects/{projectId}/tasks:batch", projectId)).content(batch))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void transitionTasks() throws Exception {
+        mockMvc.perform(authenticated(post("/api/projects/{projectId}/tasks:transition", projectId))
+                .content("{\"fromStatus\":\"IN_PROGRESS\",\"targetStatus\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void updateTask() throws Exception {
+        mockMvc.perform(authenticated(put("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId))
+                .content(TASK_JSON))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void deleteTask() throws Exception {
+        mockMvc.perform(authenticated(delete("/api/projects/{projectId}/tasks/{taskId}", projectId, taskId)))
+                .andExpect(status().isNoContent())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void registerAuthenticateRefreshAndLogout() throws Exception {
+        var registered = mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Novo\",\"email\":\"novo@taskflow.com\",\"password\":\"segredo123\"}"))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget())
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/api/auth/authenticate").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"novo@taskflow.com\",\"password\":\"segredo123\"}"))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+
+        var refreshToken = objectMapper.readTree(registered).get("refreshToken").asText();
+        var refreshed = mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget())
+                .andReturn().getResponse().getContentAsString();
+
+        var rotated = objectMapper.readTree(refreshed).get("refreshToken").asText();
+        mockMvc.perform(post("/api/auth/logout").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + rotated + "\"}"))
+                .andExpect(status().isNoContent())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    // Cada teste usa CEPs próprios: o cache em memória é compartilhado pelo contexto
+    @Test
+    void searchCep() throws Exception {
+        var result = mockMvc.perform(authenticated(get("/api/cep/search/{cep}", "01001000")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void cepCacheMissCountsItsQuery() throws Exception {
+        double recorded = recordedQueries("/api/cep/search/{cep}", "404");
+        var result = mockMvc.perform(authenticated(get("/api/cep/search/{cep}", "04538133")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(QueryStats.QUERY_COUNT_HEADER, "1"));
+
+        assertThat(recordedQueries("/api/cep/search/{cep}", "404")).isEqualTo(recorded + 1);
+    }
+
+    @Test
+    void searchCepsInBatch() throws Exception {
+        var result = mockMvc.perform(authenticated(post("/api/cep/search:batch"))
+                        .content("[\"01310100\",\"20040020\"]"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStats.QUERY_COUNT_HEADER, "2"))
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void exportProjectsAndTasks() throws Exception {
+        mockMvc.perform(authenticated(get("/api/export/projects")))
+                .andExpect(status().isOk());
+        mockMvc.perform(authenticated(get("/api/export/tasks")).param("format", "csv"))
+                .andExpect(status().isOk());
+
+        assertRecordedWithinQueryBudget(meterRegistry, "GET", "/api/export/projects",
+                BUDGETS.get("ExportController#exportProjects"));
+        assertRecordedWithinQueryBudget(meterRegistry, "GET", "/api/export/tasks",
+                BUDGETS.get("ExportController#exportTasks"));
+    }
+
+    @Test
+    void syncChanges() throws Exception {
+        mockMvc.perform(authenticated(get("/api/sync").param("since", "0")))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+        // Listas cortadas no limite buscam o restante da última revisão
+        mockMvc.perform(authenticated(get("/api/sync").param("since", "0").param("limit", "2")))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget());
+    }
+
+    @Test
+    void subscribeToProjectEvents() throws Exception {
+        var result = mockMvc.perform(authenticated(get("/api/projects/{projectId}/events", projectId))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // A métrica é gravada quando o stream termina; remover o projeto encerra o stream
+        projectService.deleteProject(projectId);
+        mockMvc.perform(asyncDispatch(result));
+
+        assertRecordedWithinQueryBudget(meterRegistry, "GET", "/api/projects/{projectId}/events",
+                BUDGETS.get("ProjectEventsController#streamEvents"));
+    }
+
+    // Soma dos comandos SQL gravados na métrica da rota; o status é o final da resposta assíncrona
+    private double recordedQueries(String uri, String status) {
+        var queries = meterRegistry.find("http.server.requests.queries")
+                .tags("uri", uri, "status", status)
+                .summary();
+        return queries == null ? 0 : queries.totalAmount();
+    }
+}
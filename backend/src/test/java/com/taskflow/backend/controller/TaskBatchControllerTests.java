@@ -0,0 +1,148 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.addTask;
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.TestFixtures;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.TaskRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * Resultado por item da atualização em lote: cada falha fica no índice enviado e não impede as demais.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskBatchControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long projectId;
+    private Task first;
+    private Task second;
+    private Task foreign;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "batch@taskflow.com");
+
+        var project = projectRepository.save(project("Projeto"));
+        projectId = project.getId();
+        first = project.getTasks().get(0);
+        second = project.getTasks().get(1);
+        foreign = projectRepository.save(project("Outro")).getTasks().get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void everyItemIsReportedAtItsIndex() throws Exception {
+        var body = "[" + String.join(",",
+                item(first.getId(), "Editada", null),
+                item(second.getId(), "Desatualizada", second.getVersion() + 1),
+                item(foreign.getId(), "Outro projeto", null),
+                item(first.getId(), "Repetida", null),
+                "{\"id\":" + second.getId() + ",\"dueDate\":\"2025-03-01\",\"priority\":\"HIGH\",\"status\":\"TO_DO\"}",
+                "{\"title\":\"Sem id\",\"dueDate\":\"2025-03-01\",\"priority\":\"HIGH\",\"status\":\"TO_DO\"}") + "]";
+
+        var response = update(body);
+
+        assertThat(response.get("updated").asInt()).isEqualTo(1);
+        assertThat(response.get("failed").asInt()).isEqualTo(5);
+        var results = response.get("results");
+        assertThat(results.get(0).get("updated").asBoolean()).isTrue();
+        assertThat(results.get(0).get("task").get("title").asText()).isEqualTo("Editada");
+        assertThat(errors(results.get(1))).containsExactly("version: tarefa alterada desde a versão informada.");
+        assertThat(errors(results.get(2))).containsExactly("id: tarefa não encontrada no projeto.");
+        assertThat(errors(results.get(3))).containsExactly("id: tarefa repetida no lote.");
+        assertThat(errors(results.get(4))).containsExactly("title: O título da tarefa é obrigatório.");
+        assertThat(errors(results.get(5))).containsExactly("id: O id da tarefa é obrigatório.");
+
+        assertThat(taskRepository.findById(first.getId()).orElseThrow().getTitle()).isEqualTo("Editada");
+        assertThat(taskRepository.findById(second.getId()).orElseThrow().getTitle()).isEqualTo("T1");
+        assertThat(taskRepository.findById(foreign.getId()).orElseThrow().getTitle()).isEqualTo("T0");
+    }
+
+    @Test
+    void emptyBatchIsRejected() throws Exception {
+        mockMvc.perform(put("/api/projects/{projectId}/tasks:batch", projectId)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode update(String body) throws Exception {
+        var result = mockMvc.perform(put("/api/projects/{projectId}/tasks:batch", projectId)
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    private static String item(Long id, String title, Long version) {
+        return "{\"id\":" + id + ",\"title\":\"" + title + "\",\"dueDate\":\"2025-03-01\",\"priority\":\"HIGH\","
+                + "\"status\":\"DONE\"" + (version != null ? ",\"version\":" + version : "") + "}";
+    }
+
+    private static ArrayList<String> errors(JsonNode result) {
+        assertThat(result.get("updated").asBoolean()).isFalse();
+        var errors = new ArrayList<String>();
+        result.get("errors").forEach(error -> errors.add(error.asText()));
+        return errors;
+    }
+
+    private static Project project(String title) {
+        var project = TestFixtures.project(title, LocalDate.of(2025, 1, 1));
+        for (int i = 0; i < 2; i++) {
+            addTask(project, "T" + i, TaskPriority.MEDIUM, TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        }
+        return project;
+    }
+}
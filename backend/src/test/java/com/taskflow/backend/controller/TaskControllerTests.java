@@ -0,0 +1,148 @@
+package com.taskflow.backend.controller;
+
+import static com.taskflow.backend.TestFixtures.addTask;
+import static com.taskflow.backend.TestFixtures.bearerToken;
+import static com.taskflow.backend.TestFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+/**
+ * Filtros, ordenação e paginação da listagem de tarefas, verificados pelo conteúdo da resposta.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        token = bearerToken(userRepository, jwtService, "tasks@taskflow.com");
+
+        var project = project("Projeto", LocalDate.of(2025, 1, 1));
+        addTask(project, "A", TaskPriority.LOW, TaskStatus.TO_DO, LocalDate.of(2025, 3, 1));
+        addTask(project, "B", TaskPriority.URGENT, TaskStatus.DONE, LocalDate.of(2025, 3, 2));
+        addTask(project, "C", TaskPriority.MEDIUM, TaskStatus.IN_PROGRESS, LocalDate.of(2025, 3, 3));
+        addTask(project, "D", TaskPriority.HIGH, TaskStatus.BLOCKED, LocalDate.of(2025, 3, 4));
+        addTask(project, "E", TaskPriority.HIGH, TaskStatus.CANCELED, LocalDate.of(2025, 3, 5));
+        projectId = projectRepository.save(project).getId();
+
+        // Tarefas de outro projeto nunca aparecem na listagem
+        var other = project("Outro", LocalDate.of(2025, 1, 1));
+        addTask(other, "X", TaskPriority.URGENT, TaskStatus.TO_DO, LocalDate.of(2025, 3, 1));
+        projectRepository.save(other);
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void defaultOrderIsByDueDate() throws Exception {
+        assertThat(titles(list())).containsExactly("A", "B", "C", "D", "E");
+    }
+
+    @Test
+    void filtersCombineStatusPriorityAndDueRange() throws Exception {
+        assertThat(titles(list().param("status", "TO_DO", "BLOCKED", "CANCELED")))
+                .containsExactly("A", "D", "E");
+        assertThat(titles(list().param("priority", "HIGH"))).containsExactly("D", "E");
+        assertThat(titles(list().param("dueFrom", "2025-03-02").param("dueTo", "2025-03-04")))
+                .containsExactly("B", "C", "D");
+        assertThat(titles(list().param("priority", "HIGH").param("status", "BLOCKED").param("dueTo", "2025-03-04")))
+                .containsExactly("D");
+    }
+
+    @Test
+    void enumsSortByDeclarationOrderNotByName() throws Exception {
+        assertThat(titles(list().param("sort", "priority"))).containsExactly("B", "D", "E", "C", "A");
+        assertThat(titles(list().param("sort", "priority,desc"))).containsExactly("A", "C", "D", "E", "B");
+        assertThat(titles(list().param("sort", "status"))).containsExactly("A", "C", "D", "B", "E");
+        assertThat(titles(list().param("sort", "priority,desc").param("sort", "dueDate,desc")))
+                .containsExactly("A", "C", "E", "D", "B");
+        // A seleção de campos usa a mesma ordenação
+        assertThat(titles(list().param("fields", "title").param("sort", "priority")))
+                .containsExactly("B", "D", "E", "C", "A");
+    }
+
+    @Test
+    void pagesAreDisjointAndCoverEveryTask() throws Exception {
+        var seen = new ArrayList<String>();
+        for (int page = 0; page < 3; page++) {
+            var body = read(list().param("page", Integer.toString(page)).param("size", "2"));
+            assertThat(body.get("totalElements").asLong()).isEqualTo(5);
+            assertThat(body.get("totalPages").asInt()).isEqualTo(3);
+            seen.addAll(titles(body));
+        }
+
+        assertThat(seen).containsExactly("A", "B", "C", "D", "E");
+    }
+
+    @Test
+    void unsupportedSortIsRejected() throws Exception {
+        mockMvc.perform(list().param("sort", "description"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MockHttpServletRequestBuilder list() {
+        return get("/api/projects/{projectId}/tasks", projectId).header(HttpHeaders.AUTHORIZATION, token);
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        var body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private List<String> titles(MockHttpServletRequestBuilder request) throws Exception {
+        return titles(read(request));
+    }
+
+    private static List<String> titles(JsonNode page) {
+        var titles = new ArrayList<String>();
+        page.get("content").forEach(task -> titles.add(task.get("title").asText()));
+        return titles;
+    }
+}
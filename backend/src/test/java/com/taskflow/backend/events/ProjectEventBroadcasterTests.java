@@ -0,0 +1,152 @@
+package com.taskflow.backend.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.backend.config.ProjectEventsProperties;
+import com.taskflow.backend.mapper.ProjectMapperImpl;
+import com.taskflow.backend.mapper.TaskMapperImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.BaseSubscriber;
+
+class ProjectEventBroadcasterTests {
+
+    private static final int BUFFER_SIZE = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProjectEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        var properties = new ProjectEventsProperties();
+        properties.setBufferSize(BUFFER_SIZE);
+        properties.setHeartbeatInterval(Duration.ofMillis(50));
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new ProjectEventBroadcaster(new ObjectMapper(), new ProjectMapperImpl(), new TaskMapperImpl(),
+                properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void deliversOnlyToSubscribersOfTheProject() {
+        var first = subscribe(1L, Long.MAX_VALUE);
+        var second = subscribe(2L, Long.MAX_VALUE);
+
+        broadcaster.onChange(ProjectChange.taskDeleted(1L, 10L, 7));
+
+        assertThat(events(first)).singleElement().satisfies(event -> {
+            assertThat(event.id()).isEqualTo("7");
+            assertThat(event.event()).isEqualTo("TASK_DELETED");
+            assertThat(event.data()).contains("\"taskId\":10").doesNotContain("\"task\"");
+        });
+        assertThat(events(second)).isEmpty();
+    }
+
+    @Test
+    void evictsSlowConsumerWithoutAffectingOthers() {
+        var slow = subscribe(1L, 0);
+        var fast = subscribe(1L, Long.MAX_VALUE);
+
+        for (int i = 1; i <= BUFFER_SIZE + 1; i++) {
+            broadcaster.onChange(ProjectChange.tasksChanged(1L, i));
+        }
+
+        assertThat(meterRegistry.get("project.events.evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("project.events.subscribers").gauge().value()).isEqualTo(1);
+        assertThat(events(fast)).hasSize(BUFFER_SIZE + 1);
+        assertThat(fast.completed).isFalse();
+
+        // O buffer é entregue antes do encerramento; o restante vem de /api/sync
+        slow.request(Long.MAX_VALUE);
+        assertThat(events(slow)).hasSize(BUFFER_SIZE).last().extracting(ServerSentEvent::id)
+                .isEqualTo(Integer.toString(BUFFER_SIZE));
+        assertThat(slow.completed).isTrue();
+    }
+
+    @Test
+    void projectDeletionCompletesItsStreams() {
+        var subscriber = subscribe(1L, Long.MAX_VALUE);
+
+        broadcaster.onChange(ProjectChange.projectDeleted(1L, 3));
+
+        assertThat(events(subscriber)).extracting(ServerSentEvent::event).containsExactly("PROJECT_DELETED");
+        assertThat(subscriber.completed).isTrue();
+        assertThat(meterRegistry.get("project.events.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    void cancelledSubscriptionsAreReleased() {
+        var subscriber = subscribe(1L, Long.MAX_VALUE);
+
+        subscriber.dispose();
+
+        assertThat(meterRegistry.get("project.events.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    void sendsHeartbeatsToIdleSubscribers() throws InterruptedException {
+        var subscriber = subscribe(1L, Long.MAX_VALUE);
+
+        for (int i = 0; i < 50 && subscriber.received.isEmpty(); i++) {
+            Thread.sleep(20);
+        }
+
+        assertThat(subscriber.received).first().satisfies(event -> {
+            assertThat(event.comment()).isEqualTo("heartbeat");
+            assertThat(event.data()).isNull();
+        });
+    }
+
+    private CollectingSubscriber subscribe(Long projectId, long initialRequest) {
+        var subscriber = new CollectingSubscriber(initialRequest);
+        broadcaster.subscribe(projectId).subscribe(subscriber);
+        return subscriber;
+    }
+
+    // Ignora heartbeats que o timer possa ter intercalado
+    private static List<ServerSentEvent<String>> events(CollectingSubscriber subscriber) {
+        return subscriber.received.stream().filter(event -> event.comment() == null).toList();
+    }
+
+    private static final class CollectingSubscriber extends BaseSubscriber<ServerSentEvent<String>> {
+
+        private final List<ServerSentEvent<String>> received = new CopyOnWriteArrayList<>();
+        private final long initialRequest;
+        private volatile boolean completed;
+
+        CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+            if (initialRequest > 0) {
+                request(initialRequest);
+            }
+        }
+
+        @Override
+        protected void hookOnNext(ServerSentEvent<String> value) {
+            received.add(value);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed = true;
+        }
+    }
+}
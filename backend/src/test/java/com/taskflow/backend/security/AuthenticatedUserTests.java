@@ -0,0 +1,22 @@
+package com.taskflow.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import com.taskflow.backend.model.UserRole;
+
+class AuthenticatedUserTests {
+
+    @Test
+    void authenticationNameIsTheEmail() {
+        var principal = new AuthenticatedUser(42L, "jwt@taskflow.com", UserRole.ADMIN);
+
+        var authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        assertThat(authentication.getName()).isEqualTo("jwt@taskflow.com");
+        assertThat(AuthorityUtils.authorityListToSet(authentication.getAuthorities())).containsExactly("ADMIN");
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskflow.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.config.PasswordProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    void delegatesToTheWrappedEncoder() {
+        encoder = encoder(Duration.ofSeconds(5));
+        release.countDown();
+
+        assertThat(encoder.encode("secret")).isEqualTo("hash:secret");
+        assertThat(encoder.matches("secret", "hash:secret")).isTrue();
+        assertThat(encoder.matches("other", "hash:secret")).isFalse();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWithTooManyRequestsWhenTheQueueIsFull() throws InterruptedException {
+        encoder = encoder(Duration.ofSeconds(5));
+        var busy = new Thread(() -> encoder.encode("a"));
+        var queued = new Thread(() -> encoder.encode("b"));
+        busy.start();
+        waitUntil(() -> meterRegistry.get("auth.password.active").gauge().value() == 1);
+        queued.start();
+        waitUntil(() -> meterRegistry.get("auth.password.queue").gauge().value() == 1);
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        busy.join();
+        queued.join();
+    }
+
+    @Test
+    void givesUpWithServiceUnavailableAfterMaxWait() {
+        encoder = encoder(Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> encoder.matches("secret", "hash:secret"))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    private BoundedPasswordEncoder encoder(Duration maxWait) {
+        var properties = new PasswordProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setMaxWait(maxWait);
+        return new BoundedPasswordEncoder(new BlockingEncoder(release), properties, meterRegistry);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // Só conclui depois que o teste libera o latch, simulando um hash demorado
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+
+        private void await() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
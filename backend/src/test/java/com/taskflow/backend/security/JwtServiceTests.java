@@ -0,0 +1,81 @@
+package com.taskflow.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.taskflow.backend.config.JwtProperties;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserRole;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtServiceTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtService jwtService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(properties(60_000), meterRegistry);
+        user = new User();
+        user.setId(42L);
+        user.setEmail("jwt@taskflow.com");
+        user.setRole(UserRole.ADMIN);
+    }
+
+    @Test
+    void verifiedTokenCarriesUserClaims() {
+        var token = jwtService.verify(jwtService.generateToken(user));
+
+        assertThat(token.subject()).isEqualTo("jwt@taskflow.com");
+        assertThat(token.userId()).isEqualTo(42L);
+        assertThat(token.role()).isEqualTo(UserRole.ADMIN);
+        assertThat(token.hasUserClaims()).isTrue();
+    }
+
+    @Test
+    void repeatedVerificationIsServedFromCache() {
+        var jwt = jwtService.generateToken(user);
+
+        var first = jwtService.verify(jwt);
+        var second = jwtService.verify(jwt);
+
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "jwt.verified", "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verification").tag("outcome", "valid").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verification").tag("outcome", "cached").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tamperedTokenIsRejectedEvenAfterTheOriginalWasCached() {
+        var jwt = jwtService.generateToken(user);
+        jwtService.verify(jwt);
+        var parts = jwt.split("\\.");
+        var forged = parts[0] + "." + parts[1] + "." + new StringBuilder(parts[2]).reverse();
+
+        assertThatThrownBy(() -> jwtService.verify(forged)).isInstanceOf(SignatureException.class);
+        assertThat(meterRegistry.get("jwt.verification").tag("outcome", "invalid").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        var expired = new JwtService(properties(-1_000), meterRegistry).generateToken(user);
+
+        assertThatThrownBy(() -> jwtService.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(meterRegistry.get("jwt.verification").tag("outcome", "expired").timer().count()).isEqualTo(1);
+    }
+
+    private static JwtProperties properties(long expiration) {
+        var properties = new JwtProperties();
+        properties.setSecretKey("dGFza2Zsb3ctdGVzdC1zZWNyZXQta2V5LTAxMjM0NTY3ODlhYmNkZWY=");
+        properties.setExpiration(expiration);
+        return properties;
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.taskflow.backend.dto.AuthenticationRequestDTO;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserRole;
+import com.taskflow.backend.repository.UserRepository;
+import com.taskflow.backend.security.JwtService;
+
+@SpringBootTest
+class AuthenticationServiceTests {
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void loginRehashesPasswordsWithALowerStrength() {
+        var user = new User();
+        user.setEmail("rehash@taskflow.com");
+        user.setName("Rehash");
+        user.setRole(UserRole.USER);
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        userRepository.save(user);
+
+        var request = new AuthenticationRequestDTO();
+        request.setEmail("rehash@taskflow.com");
+        request.setPassword("secret");
+        var response = authenticationService.authenticate(request);
+
+        assertThat(jwtService.verify(response.getToken()).userId()).isEqualTo(user.getId());
+        var stored = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$10$");
+        assertThat(new BCryptPasswordEncoder().matches("secret", stored)).isTrue();
+    }
+}
@@ -0,0 +1,273 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.taskflow.backend.cep.CepIndexBuilder;
+import com.taskflow.backend.cep.ViaCepClient;
+import com.taskflow.backend.config.CepProperties;
+import com.taskflow.backend.dto.CepBatchResultDTO;
+import com.taskflow.backend.model.CepCacheEntry;
+import com.taskflow.backend.repository.CepCacheRepository;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import reactor.core.publisher.Flux;
+
+@SpringBootTest
+class CepServiceTests {
+
+    private static final Map<String, AtomicInteger> REQUESTS = new ConcurrentHashMap<>();
+    private static final HttpServer VIACEP = startViaCepStub();
+    private static final Path OFFLINE_INDEX = buildOfflineIndex();
+
+    @DynamicPropertySource
+    static void viaCepProperties(DynamicPropertyRegistry registry) {
+        registry.add("application.cep.base-url", () -> "http://localhost:" + VIACEP.getAddress().getPort() + "/ws/");
+        registry.add("application.cep.offline-index", OFFLINE_INDEX::toString);
+        registry.add("application.cep.request-timeout", () -> "1s");
+        registry.add("application.cep.sliding-window-size", () -> "4");
+        registry.add("application.cep.minimum-number-of-calls", () -> "4");
+    }
+
+    @AfterAll
+    static void stopViaCepStub() {
+        VIACEP.stop(0);
+    }
+
+    @Autowired
+    private CepService cepService;
+
+    @Autowired
+    private CepCacheRepository cepCacheRepository;
+
+    @Autowired
+    private CircuitBreaker viaCepCircuitBreaker;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void closeCircuit() {
+        viaCepCircuitBreaker.reset();
+    }
+
+    @Test
+    void concurrentLookupsOfTheSameCepShareOneUpstreamCall() {
+        var results = Flux.range(0, 20)
+                .flatMap(i -> cepService.searchCep("01001-000"))
+                .collectList()
+                .block();
+
+        assertThat(results).hasSize(20).allSatisfy(address -> assertThat(address.getLocalidade()).isEqualTo("São Paulo"));
+        assertThat(requests("01001000")).isEqualTo(1);
+        assertThat(cepCacheRepository.findById("01001000")).hasValueSatisfying(entry -> assertThat(entry.isFound()).isTrue());
+    }
+
+    @Test
+    void notFoundAnswersAreCached() {
+        assertThat(cepService.searchCep("99999999").blockOptional()).isEmpty();
+        assertThat(cepService.searchCep("99999999").blockOptional()).isEmpty();
+
+        assertThat(requests("99999999")).isEqualTo(1);
+        assertThat(cepCacheRepository.findById("99999999")).hasValueSatisfying(entry -> assertThat(entry.isFound()).isFalse());
+    }
+
+    @Test
+    void upstreamErrorFlagIsNotSentToClients() throws Exception {
+        var json = objectMapper.readTree(objectMapper.writeValueAsString(cepService.searchCep("01003-000").block()));
+
+        assertThat(json.has("hasError")).isFalse();
+        assertThat(json.has("erro")).isFalse();
+        assertThat(json.get("localidade").asText()).isEqualTo("São Paulo");
+    }
+
+    @Test
+    void persistedEntriesAvoidTheUpstreamCall() {
+        var entry = new CepCacheEntry();
+        entry.setCep("20040002");
+        entry.setFound(true);
+        entry.setFetchedAt(Instant.now());
+        entry.setLocalidade("Rio de Janeiro");
+        entry.setUf("RJ");
+        cepCacheRepository.save(entry);
+
+        assertThat(cepService.searchCep("20040002").block().getLocalidade()).isEqualTo("Rio de Janeiro");
+        assertThat(requests("20040002")).isZero();
+    }
+
+    @Test
+    void upstreamFailuresAreNotCached() {
+        assertThat(cepService.searchCep("00000500").blockOptional()).isEmpty();
+        assertThat(cepService.searchCep("00000500").blockOptional()).isEmpty();
+
+        assertThat(requests("00000500")).isEqualTo(2);
+        assertThat(cepCacheRepository.findById("00000500")).isEmpty();
+    }
+
+    @Test
+    void indexedCepsAreResolvedOffline() {
+        var address = cepService.searchCep("30130-010").block();
+
+        assertThat(address.getLocalidade()).isEqualTo("Belo Horizonte");
+        assertThat(requests("30130010")).isZero();
+        assertThat(cepCacheRepository.findById("30130010")).isEmpty();
+    }
+
+    @Test
+    void slowUpstreamCallsAreCutAtTheDeadline() {
+        long start = System.nanoTime();
+
+        assertThat(cepService.searchCep("00000408").blockOptional()).isEmpty();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void openCircuitFailsFastWithoutCallingUpstream() {
+        for (int i = 1; i <= 4; i++) {
+            cepService.searchCep("0000050" + i).blockOptional();
+        }
+        assertThat(viaCepCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThat(cepService.searchCep("01002000").blockOptional()).isEmpty();
+        assertThat(requests("01002000")).isZero();
+    }
+
+    @Test
+    void expiredEntryIsServedWhenUpstreamFails() {
+        var entry = new CepCacheEntry();
+        entry.setCep("00000509");
+        entry.setFound(true);
+        entry.setFetchedAt(Instant.now().minus(Duration.ofDays(365)));
+        entry.setLocalidade("Curitiba");
+        cepCacheRepository.save(entry);
+
+        assertThat(cepService.searchCep("00000509").block().getLocalidade()).isEqualTo("Curitiba");
+        assertThat(requests("00000509")).isEqualTo(1);
+    }
+
+    @Test
+    void batchLookupKeepsTheRequestOrder() {
+        var results = cepService.searchCeps(List.of("01003-000", "99999998", "123", "30130010"))
+                .collectList()
+                .block();
+
+        assertThat(results).extracting(CepBatchResultDTO::getCep)
+                .containsExactly("01003-000", "99999998", "123", "30130010");
+        assertThat(results).extracting(result -> result.getAddress() != null)
+                .containsExactly(true, false, false, true);
+    }
+
+    @Test
+    void batchLookupReportsNullEntriesWithoutFailingTheBatch() {
+        var results = cepService.searchCeps(Arrays.asList("01003-000", null, "30130010"))
+                .collectList()
+                .block();
+
+        assertThat(results).extracting(CepBatchResultDTO::getCep)
+                .containsExactly("01003-000", null, "30130010");
+        assertThat(results).extracting(result -> result.getAddress() != null)
+                .containsExactly(true, false, true);
+    }
+
+    @Test
+    void hedgedRequestAnswersWhenTheFirstAttemptStalls() {
+        var properties = new CepProperties();
+        properties.setHedgeDelay(Duration.ofMillis(50));
+        properties.setRequestTimeout(Duration.ofSeconds(5));
+        var client = new ViaCepClient(
+                WebClient.create("http://localhost:" + VIACEP.getAddress().getPort() + "/ws/"),
+                CircuitBreaker.ofDefaults("hedge"), properties);
+        long start = System.nanoTime();
+
+        var address = client.fetch("00000777").block();
+
+        assertThat(address).isPresent();
+        assertThat(requests("00000777")).isEqualTo(2);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    private static int requests(String cep) {
+        return REQUESTS.getOrDefault(cep, new AtomicInteger()).get();
+    }
+
+    private static Path buildOfflineIndex() {
+        try {
+            var csv = Files.createTempFile("ceps", ".csv");
+            var index = Files.createTempFile("ceps", ".idx");
+            Files.writeString(csv, "cep,logradouro,bairro,cidade,uf\n30130-010,Praça Sete de Setembro,Centro,Belo Horizonte,MG\n");
+            CepIndexBuilder.build(csv, index);
+            csv.toFile().deleteOnExit();
+            index.toFile().deleteOnExit();
+            return index;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HttpServer startViaCepStub() {
+        try {
+            var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/ws/", CepServiceTests::respond);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        String cep = exchange.getRequestURI().getPath().split("/")[2];
+        int attempt = REQUESTS.computeIfAbsent(cep, key -> new AtomicInteger()).incrementAndGet();
+        // 00000408 sempre demora; 00000777 demora apenas na primeira tentativa
+        long delay = cep.equals("00000408") || (cep.equals("00000777") && attempt == 1) ? 3000 : 100;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int status = 200;
+        String body;
+        if (cep.startsWith("99")) {
+            body = "{\"erro\": \"true\"}";
+        } else if (cep.startsWith("000005")) {
+            status = 500;
+            body = "{}";
+        } else {
+            body = "{\"cep\": \"" + cep + "\", \"logradouro\": \"Praça da Sé\", \"bairro\": \"Sé\","
+                    + " \"localidade\": \"São Paulo\", \"uf\": \"SP\"}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,103 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskflow.backend.mapper.ProjectMapper;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class ProjectServiceQueryCountTests {
+
+    private static final int PROJECTS = 30;
+    private static final int TASKS_PER_PROJECT = 4;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PROJECTS; i++) {
+            var project = new Project();
+            project.setTitle("Projeto " + i);
+            project.setStatus(ProjectStatus.IN_PROGRESS);
+            project.setStartDate(LocalDate.of(2025, 1, 1).plusDays(i % 7));
+            project.setTasks(new ArrayList<>());
+            for (int j = 0; j < TASKS_PER_PROJECT; j++) {
+                var task = new Task();
+                task.setTitle("Tarefa " + j);
+                task.setDueDate(LocalDate.of(2025, 2, 1));
+                task.setPriority(TaskPriority.MEDIUM);
+                task.setStatus(TaskStatus.TO_DO);
+                task.setProject(project);
+                project.getTasks().add(task);
+            }
+            entityManager.persist(project);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listingAPageOfProjectsWithTasksUsesTwoQueries() {
+        var page = projectService.findProjectsPage(null, 25).map(projectMapper::toResponseDTO);
+
+        assertThat(page.getItems()).hasSize(25);
+        assertThat(page.getItems()).allSatisfy(dto -> assertThat(dto.getTasks()).hasSize(TASKS_PER_PROJECT));
+        // Uma consulta para a página de projetos e uma para as tarefas de todos eles
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void followingTheCursorCostsTheSameAsTheFirstPage() {
+        var first = projectService.findProjectsPage(null, 10);
+        statistics.clear();
+
+        var second = projectService.findProjectsPage(first.getNext(), 10).map(projectMapper::toResponseDTO);
+
+        assertThat(second.getItems()).hasSize(10);
+        assertThat(second.getItems()).extracting("id")
+                .doesNotContainAnyElementsOf(first.map(Project::getId).getItems());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void loadingASingleProjectWithTasksUsesOneQuery() {
+        var id = projectService.findProjectsPage(null, 1).getItems().get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        var dto = projectMapper.toResponseDTO(projectService.findProjectWithTasksById(id).orElseThrow());
+
+        assertThat(dto.getTasks()).hasSize(TASKS_PER_PROJECT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.dto.ProjectStatsDTO;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+
+@SpringBootTest
+class ProjectStatsServiceTests {
+
+    // Quarta-feira; a semana vai até domingo, 15/06
+    private static final LocalDate WEDNESDAY = LocalDate.of(2025, 6, 11);
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 6, 15);
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Long projectId;
+    private Long emptyProjectId;
+    private Long otherProjectId;
+
+    @BeforeEach
+    void setUp() {
+        var project = project("Com tarefas");
+        addTask(project, TaskStatus.TO_DO, TaskPriority.HIGH, LocalDate.of(2025, 6, 10));
+        addTask(project, TaskStatus.DONE, TaskPriority.HIGH, LocalDate.of(2025, 6, 1));
+        addTask(project, TaskStatus.CANCELED, TaskPriority.LOW, LocalDate.of(2025, 6, 10));
+        addTask(project, TaskStatus.IN_PROGRESS, TaskPriority.URGENT, WEDNESDAY);
+        addTask(project, TaskStatus.BLOCKED, TaskPriority.HIGH, SUNDAY);
+        addTask(project, TaskStatus.TO_DO, TaskPriority.MEDIUM, LocalDate.of(2025, 6, 16));
+        addTask(project, TaskStatus.DONE, TaskPriority.LOW, LocalDate.of(2025, 6, 12));
+        addTask(project, TaskStatus.TO_DO, TaskPriority.MEDIUM, LocalDate.of(2025, 6, 14));
+
+        var other = project("Outro");
+        addTask(other, TaskStatus.TO_DO, TaskPriority.URGENT, LocalDate.of(2025, 1, 1));
+
+        var saved = projectRepository.saveAll(List.of(project, project("Vazio"), other));
+        projectId = saved.get(0).getId();
+        emptyProjectId = saved.get(1).getId();
+        otherProjectId = saved.get(2).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void countsByStatusPriorityOverdueAndDueThisWeek() {
+        var stats = single(WEDNESDAY);
+
+        assertThat(stats.getTotalTasks()).isEqualTo(8);
+        assertThat(stats.getByStatus()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                TaskStatus.TO_DO, 3L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.BLOCKED, 1L,
+                TaskStatus.DONE, 2L, TaskStatus.CANCELED, 1L));
+        assertThat(stats.getByPriority()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                TaskPriority.URGENT, 1L, TaskPriority.HIGH, 3L, TaskPriority.MEDIUM, 2L, TaskPriority.LOW, 2L));
+        // Vencida em 10/06 e aberta; as fechadas (DONE, CANCELED) não contam
+        assertThat(stats.getOverdue()).isEqualTo(1);
+        // 11/06 (hoje), 14/06 e 15/06 (domingo); 16/06 já é a semana seguinte e 12/06 está concluída
+        assertThat(stats.getDueThisWeek()).isEqualTo(3);
+    }
+
+    @Test
+    void onSundayTheWeekEndsThatDay() {
+        var stats = single(SUNDAY);
+
+        // 10/06, 11/06 e 14/06 ficam atrasadas; só o próprio domingo vence na semana
+        assertThat(stats.getOverdue()).isEqualTo(3);
+        assertThat(stats.getDueThisWeek()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkStatsAreOrderedByProjectAndSkipUnknownIds() {
+        var stats = projectStatsService.statsForProjects(
+                List.of(otherProjectId, emptyProjectId, projectId, otherProjectId + 1000), WEDNESDAY);
+
+        assertThat(stats).extracting(ProjectStatsDTO::getProjectId)
+                .containsExactly(projectId, emptyProjectId, otherProjectId);
+        assertThat(stats.get(1).getTotalTasks()).isZero();
+        assertThat(stats.get(1).getByStatus().values()).containsOnly(0L);
+        assertThat(stats.get(2).getOverdue()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkStatsRequireIds() {
+        assertThatThrownBy(() -> projectStatsService.statsForProjects(List.of()))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private ProjectStatsDTO single(LocalDate today) {
+        var stats = projectStatsService.statsForProjects(List.of(projectId), today);
+        assertThat(stats).hasSize(1);
+        return stats.get(0);
+    }
+
+    private static Project project(String title) {
+        var project = new Project();
+        project.setTitle(title);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setTasks(new ArrayList<>());
+        return project;
+    }
+
+    private static void addTask(Project project, TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+        var task = new Task();
+        task.setTitle("Tarefa");
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setProject(project);
+        project.getTasks().add(task);
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.taskflow.backend.repository.RefreshTokenRepository;
+
+@SpringBootTest
+class RefreshTokenServiceTests {
+
+    private static final Long USER_ID = 7L;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void rotationReplacesTheToken() {
+        var first = refreshTokenService.issue(USER_ID);
+
+        var rotation = refreshTokenService.rotate(first);
+
+        assertThat(rotation.userId()).isEqualTo(USER_ID);
+        assertThat(rotation.refreshToken()).isNotEqualTo(first);
+        assertThat(refreshTokenService.rotate(rotation.refreshToken()).userId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void onlyTheHashIsStored() {
+        var raw = refreshTokenService.issue(USER_ID);
+
+        assertThat(refreshTokenRepository.findAll())
+                .singleElement()
+                .satisfies(token -> assertThat(token.getTokenHash()).hasSize(64).isNotEqualTo(raw));
+    }
+
+    @Test
+    void reusingARotatedTokenRevokesEverySessionOfTheUser() {
+        var stolen = refreshTokenService.issue(USER_ID);
+        var otherSession = refreshTokenService.issue(USER_ID);
+        var current = refreshTokenService.rotate(stolen).refreshToken();
+        backdateRotations(Duration.ofMinutes(1));
+
+        assertUnauthorized(stolen);
+        assertUnauthorized(current);
+        assertUnauthorized(otherSession);
+    }
+
+    @Test
+    void reuseWithinTheGraceWindowIsRejectedWithoutRevoking() {
+        var shared = refreshTokenService.issue(USER_ID);
+        var current = refreshTokenService.rotate(shared).refreshToken();
+
+        assertUnauthorized(shared);
+
+        assertThat(refreshTokenService.rotate(current).userId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void concurrentRotationsOfTheSameTokenKeepTheWinnerLoggedIn() throws Exception {
+        var shared = refreshTokenService.issue(USER_ID);
+        var start = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            Callable<RefreshTokenService.Rotation> refresh = () -> {
+                start.await();
+                return refreshTokenService.rotate(shared);
+            };
+            var first = executor.submit(refresh);
+            var second = executor.submit(refresh);
+            start.countDown();
+
+            var winners = new ArrayList<RefreshTokenService.Rotation>();
+            for (var result : List.of(first, second)) {
+                try {
+                    winners.add(result.get(10, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOfSatisfying(ResponseStatusException.class,
+                            rejected -> assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+                }
+            }
+
+            assertThat(winners).hasSize(1);
+            assertThat(refreshTokenService.rotate(winners.get(0).refreshToken()).userId()).isEqualTo(USER_ID);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void logoutRevokesOnlyTheSessionUnlessAllSessionsIsRequested() {
+        var session = refreshTokenService.issue(USER_ID);
+        var otherSession = refreshTokenService.issue(USER_ID);
+
+        refreshTokenService.revoke(session, false);
+        assertUnauthorized(session);
+        var rotated = refreshTokenService.rotate(otherSession).refreshToken();
+
+        refreshTokenService.revoke(rotated, true);
+        assertUnauthorized(rotated);
+    }
+
+    @Test
+    void unknownTokensAreRejected() {
+        assertUnauthorized("não-existe");
+        assertUnauthorized(null);
+    }
+
+    private void backdateRotations(Duration age) {
+        var tokens = refreshTokenRepository.findAll();
+        tokens.stream()
+                .filter(token -> token.getRotatedAt() != null)
+                .forEach(token -> token.setRotatedAt(token.getRotatedAt().minus(age)));
+        refreshTokenRepository.saveAll(tokens);
+    }
+
+    private void assertUnauthorized(String token) {
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.model.User;
+import com.taskflow.backend.model.UserRole;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class SecondLevelCacheTests {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        var project = new Project();
+        project.setTitle("Projeto");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setTasks(new ArrayList<>());
+        project.getTasks().add(task(project));
+        projectId = projectRepository.save(project).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void projectIsServedFromCacheAfterTheFirstRead() {
+        projectService.findProjectById(projectId);
+        statistics.clear();
+
+        var project = projectService.findProjectById(projectId).orElseThrow();
+
+        assertThat(project.getTitle()).isEqualTo("Projeto");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics(Project.CACHE_REGION).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateReplacesTheCachedProject() {
+        projectService.findProjectById(projectId);
+        var changes = projectService.findProjectById(projectId).orElseThrow();
+        changes.setTitle("Renomeado");
+
+        projectService.updateProject(projectId, changes);
+        statistics.clear();
+
+        assertThat(projectService.findProjectById(projectId).orElseThrow().getTitle()).isEqualTo("Renomeado");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void creatingATaskEvictsTheCachedTaskCollection() {
+        assertThat(countTasks()).isEqualTo(1);
+        assertThat(countTasks()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics(Project.TASKS_CACHE_REGION).getHitCount()).isEqualTo(1);
+
+        taskService.createTask(projectId, task(null));
+
+        assertThat(countTasks()).isEqualTo(2);
+    }
+
+    @Test
+    void userIsResolvedByEmailFromCache() {
+        var user = new User();
+        user.setEmail("cache@taskflow.com");
+        user.setPassword("-");
+        user.setRole(UserRole.USER);
+        userRepository.save(user);
+        userRepository.findByEmail("cache@taskflow.com");
+        statistics.clear();
+
+        assertThat(userRepository.findByEmail("cache@taskflow.com")).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void cacheRequestsAreExposedAsMetrics() {
+        projectService.findProjectById(projectId);
+        projectService.findProjectById(projectId);
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", Project.CACHE_REGION, "result", "hit")
+                .functionCounter())
+                .isNotNull();
+    }
+
+    private int countTasks() {
+        return transactionTemplate.execute(status -> projectService.findProjectById(projectId)
+                .orElseThrow()
+                .getTasks()
+                .size());
+    }
+
+    private static Task task(Project project) {
+        var task = new Task();
+        task.setTitle("Tarefa");
+        task.setDueDate(LocalDate.of(2025, 2, 1));
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setStatus(TaskStatus.TO_DO);
+        task.setProject(project);
+        return task;
+    }
+}
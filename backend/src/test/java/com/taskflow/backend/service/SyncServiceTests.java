@@ -0,0 +1,168 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.taskflow.backend.config.SyncProperties;
+import com.taskflow.backend.dto.ProjectResponseDTO;
+import com.taskflow.backend.dto.TaskResponseDTO;
+import com.taskflow.backend.dto.TaskTransitionRequestDTO;
+import com.taskflow.backend.dto.TombstoneDTO;
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.SyncEntityType;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ChangeRevisions;
+import com.taskflow.backend.repository.ProjectRepository;
+
+@SpringBootTest
+class SyncServiceTests {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ChangeRevisions changeRevisions;
+
+    @Autowired
+    private SyncProperties syncProperties;
+
+    private Duration settleWindow;
+    // Revisões anteriores pertencem a outros testes do mesmo banco
+    private long baseline;
+
+    @BeforeEach
+    void setUp() {
+        settleWindow = syncProperties.getSettleWindow();
+        syncProperties.setSettleWindow(Duration.ZERO);
+        baseline = changeRevisions.current();
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncProperties.setSettleWindow(settleWindow);
+        projectRepository.deleteAll();
+    }
+
+    private Project saveProject(String title, int tasks) {
+        var project = new Project();
+        project.setTitle(title);
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        project.setTasks(new ArrayList<>());
+        for (int i = 0; i < tasks; i++) {
+            var task = new Task();
+            task.setTitle("Tarefa " + i);
+            task.setDueDate(LocalDate.of(2025, 2, 1));
+            task.setPriority(TaskPriority.LOW);
+            task.setStatus(TaskStatus.TO_DO);
+            task.setProject(project);
+            project.getTasks().add(task);
+        }
+        return projectRepository.save(project);
+    }
+
+    @Test
+    void returnsCreatedRowsOnceAndThenNothing() {
+        var project = saveProject("Projeto", 2);
+
+        var first = syncService.changesSince(baseline, null);
+        assertThat(first.getProjects()).extracting(ProjectResponseDTO::getId).containsExactly(project.getId());
+        assertThat(first.getProjects().get(0).getTasks()).isNull();
+        assertThat(first.getTasks()).hasSize(2);
+        assertThat(first.getRevision()).isEqualTo(project.getRevision());
+        assertThat(first.isHasMore()).isFalse();
+
+        var quiet = syncService.changesSince(first.getRevision(), null);
+        assertThat(quiet.getProjects()).isEmpty();
+        assertThat(quiet.getTasks()).isEmpty();
+        assertThat(quiet.getDeleted()).isEmpty();
+        assertThat(quiet.getRevision()).isEqualTo(first.getRevision());
+    }
+
+    @Test
+    void updatesTransitionsAndDeletesAreReported() {
+        var project = saveProject("Projeto", 3);
+        var tasks = project.getTasks();
+        var since = syncService.changesSince(baseline, null).getRevision();
+
+        var details = new Task();
+        details.setTitle("Alterada");
+        details.setStatus(TaskStatus.IN_PROGRESS);
+        taskService.updateTask(project.getId(), tasks.get(0).getId(), details);
+        var transition = new TaskTransitionRequestDTO();
+        transition.setFromStatus(TaskStatus.TO_DO);
+        transition.setTargetStatus(TaskStatus.DONE);
+        taskService.transitionTasks(project.getId(), transition);
+        taskService.deleteTask(project.getId(), tasks.get(2).getId());
+
+        var changes = syncService.changesSince(since, null);
+        assertThat(changes.getProjects()).isEmpty();
+        assertThat(changes.getTasks()).extracting(TaskResponseDTO::getId, TaskResponseDTO::getStatus)
+                .containsExactly(
+                        tuple(tasks.get(0).getId(), TaskStatus.IN_PROGRESS),
+                        tuple(tasks.get(1).getId(), TaskStatus.DONE));
+        assertThat(changes.getDeleted())
+                .containsExactly(new TombstoneDTO(SyncEntityType.TASK, tasks.get(2).getId(), project.getId()));
+
+        projectService.deleteProject(project.getId());
+
+        var afterDelete = syncService.changesSince(changes.getRevision(), null);
+        assertThat(afterDelete.getDeleted()).containsExactlyInAnyOrder(
+                new TombstoneDTO(SyncEntityType.PROJECT, project.getId(), project.getId()),
+                new TombstoneDTO(SyncEntityType.TASK, tasks.get(0).getId(), project.getId()),
+                new TombstoneDTO(SyncEntityType.TASK, tasks.get(1).getId(), project.getId()));
+    }
+
+    @Test
+    void limitNeverSplitsATransaction() {
+        var first = saveProject("Primeiro", 0);
+        var second = saveProject("Segundo", 3);
+        var third = saveProject("Terceiro", 0);
+
+        var page = syncService.changesSince(baseline, 2);
+        assertThat(page.getProjects()).extracting(ProjectResponseDTO::getId)
+                .containsExactly(first.getId(), second.getId());
+        // As três tarefas foram gravadas na mesma transação do segundo projeto
+        assertThat(page.getTasks()).hasSize(3);
+        assertThat(page.getRevision()).isEqualTo(second.getRevision());
+        assertThat(page.isHasMore()).isTrue();
+
+        var next = syncService.changesSince(page.getRevision(), 2);
+        assertThat(next.getProjects()).extracting(ProjectResponseDTO::getId).containsExactly(third.getId());
+        assertThat(next.isHasMore()).isFalse();
+    }
+
+    @Test
+    void recentWritesDoNotAdvanceTheCursor() {
+        syncProperties.setSettleWindow(Duration.ofHours(1));
+        saveProject("Projeto", 1);
+
+        var changes = syncService.changesSince(baseline, null);
+
+        assertThat(changes.getProjects()).hasSize(1);
+        assertThat(changes.getRevision()).isEqualTo(baseline);
+        assertThat(syncService.changesSince(changes.getRevision(), null).getProjects()).hasSize(1);
+    }
+}
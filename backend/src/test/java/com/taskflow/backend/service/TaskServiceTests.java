@@ -0,0 +1,206 @@
+package com.taskflow.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskflow.backend.dto.TaskTransitionRequestDTO;
+
+import com.taskflow.backend.model.Project;
+import com.taskflow.backend.model.ProjectStatus;
+import com.taskflow.backend.model.Task;
+import com.taskflow.backend.model.TaskPriority;
+import com.taskflow.backend.model.TaskStatus;
+import com.taskflow.backend.repository.ProjectRepository;
+import com.taskflow.backend.repository.TaskRepository;
+
+@SpringBootTest
+class TaskServiceTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        var project = new Project();
+        project.setTitle("Projeto");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void createTaskInUnknownProjectIsReportedAsNotFound() {
+        var missing = projectId + 1000;
+
+        assertThatThrownBy(() -> taskService.createTask(missing, task("Tarefa", TaskStatus.TO_DO)))
+                .hasMessage("Projeto não encontrado com ID: " + missing)
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void otherConstraintViolationsAreNotReportedAsMissingProject() {
+        var task = task("Tarefa", TaskStatus.TO_DO);
+        task.setDescription("x".repeat(300));
+
+        assertThatThrownBy(() -> taskService.createTask(projectId, task))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(taskRepository.count()).isZero();
+    }
+
+    @Test
+    void transitionByIdsTouchesOnlyListedTasksOfTheProjectThatChange() {
+        var open = save(projectId, "Aberta", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        var done = save(projectId, "Concluída", TaskStatus.DONE, LocalDate.of(2025, 2, 1));
+        var unlisted = save(projectId, "Fora da lista", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        var foreign = save(otherProjectId(), "Outro projeto", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+
+        int updated = taskService.transitionTasks(projectId,
+                transition(TaskStatus.DONE, List.of(open.getId(), done.getId(), foreign.getId()), null, null));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reload(open).getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(reload(open).getVersion()).isEqualTo(open.getVersion() + 1);
+        assertThat(reload(done).getVersion()).isEqualTo(done.getVersion());
+        assertThat(reload(unlisted).getStatus()).isEqualTo(TaskStatus.TO_DO);
+        assertThat(reload(foreign).getStatus()).isEqualTo(TaskStatus.TO_DO);
+    }
+
+    @Test
+    void transitionByFilterMatchesStatusAndDueDate() {
+        var late = save(projectId, "Atrasada", TaskStatus.TO_DO, LocalDate.of(2025, 1, 10));
+        var onTime = save(projectId, "No prazo", TaskStatus.TO_DO, LocalDate.of(2025, 3, 1));
+        var blocked = save(projectId, "Bloqueada", TaskStatus.BLOCKED, LocalDate.of(2025, 1, 10));
+        var foreign = save(otherProjectId(), "Outro projeto", TaskStatus.TO_DO, LocalDate.of(2025, 1, 10));
+
+        int updated = taskService.transitionTasks(projectId,
+                transition(TaskStatus.CANCELED, null, TaskStatus.TO_DO, LocalDate.of(2025, 2, 1)));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reload(late).getStatus()).isEqualTo(TaskStatus.CANCELED);
+        assertThat(reload(onTime).getStatus()).isEqualTo(TaskStatus.TO_DO);
+        assertThat(reload(blocked).getStatus()).isEqualTo(TaskStatus.BLOCKED);
+        assertThat(reload(foreign).getStatus()).isEqualTo(TaskStatus.TO_DO);
+
+        assertThat(taskService.transitionTasks(projectId,
+                transition(TaskStatus.TO_DO, null, TaskStatus.TO_DO, null))).isZero();
+    }
+
+    @Test
+    void tasksWithoutStatusAreTransitionedById() {
+        var untracked = save(projectId, "Sem status", null, LocalDate.of(2025, 2, 1));
+
+        int updated = taskService.transitionTasks(projectId,
+                transition(TaskStatus.IN_PROGRESS, List.of(untracked.getId()), null, null));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reload(untracked).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void readsAfterATransitionSeeTheNewStatus() {
+        var task = save(projectId, "Em cache", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        // Aquece o cache L2
+        taskService.findTaskByIdAndProjectId(task.getId(), projectId);
+
+        var status = transactionTemplate.execute(tx -> {
+            // Entidade gerenciada antes do UPDATE em massa, no mesmo contexto de persistência
+            var loaded = taskService.findTaskByIdAndProjectId(task.getId(), projectId).orElseThrow();
+            taskService.transitionTasks(projectId, transition(TaskStatus.DONE, List.of(loaded.getId()), null, null));
+            return taskService.findTaskByIdAndProjectId(task.getId(), projectId).orElseThrow().getStatus();
+        });
+
+        assertThat(status).isEqualTo(TaskStatus.DONE);
+        assertThat(taskService.findTaskByIdAndProjectId(task.getId(), projectId).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.DONE);
+    }
+
+    @Test
+    void batchUpdateAppliesChangesAndReportsConflicts() {
+        var first = save(projectId, "Primeira", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        var second = save(projectId, "Segunda", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        var stale = save(projectId, "Desatualizada", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+        var foreign = save(otherProjectId(), "Outro projeto", TaskStatus.TO_DO, LocalDate.of(2025, 2, 1));
+
+        var batch = taskService.updateTasks(projectId,
+                Map.of(first.getId(), task("Primeira editada", TaskStatus.DONE),
+                        second.getId(), task("Segunda editada", TaskStatus.BLOCKED),
+                        stale.getId(), task("Não aplicada", TaskStatus.DONE),
+                        foreign.getId(), task("Não aplicada", TaskStatus.DONE)),
+                Map.of(second.getId(), second.getVersion(), stale.getId(), stale.getVersion() + 1));
+
+        assertThat(batch.updated()).containsOnlyKeys(first.getId(), second.getId());
+        assertThat(batch.conflicts()).containsExactly(stale.getId());
+        assertThat(batch.updated().get(first.getId()).getVersion()).isEqualTo(first.getVersion() + 1);
+        assertThat(reload(first).getTitle()).isEqualTo("Primeira editada");
+        assertThat(reload(second).getStatus()).isEqualTo(TaskStatus.BLOCKED);
+        assertThat(reload(stale).getTitle()).isEqualTo("Desatualizada");
+        assertThat(reload(foreign).getTitle()).isEqualTo("Outro projeto");
+    }
+
+    private Long otherProjectId() {
+        var project = new Project();
+        project.setTitle("Outro");
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setStartDate(LocalDate.of(2025, 1, 1));
+        return projectRepository.save(project).getId();
+    }
+
+    private Task save(Long projectId, String title, TaskStatus status, LocalDate dueDate) {
+        var task = task(title, status);
+        task.setDueDate(dueDate);
+        task.setProject(projectRepository.getReferenceById(projectId));
+        return taskRepository.save(task);
+    }
+
+    private Task reload(Task task) {
+        return taskRepository.findById(task.getId()).orElseThrow();
+    }
+
+    private static TaskTransitionRequestDTO transition(TaskStatus target, List<Long> ids, TaskStatus from,
+            LocalDate dueBefore) {
+        var transition = new TaskTransitionRequestDTO();
+        transition.setTargetStatus(target);
+        transition.setIds(ids);
+        transition.setFromStatus(from);
+        transition.setDueBefore(dueBefore);
+        return transition;
+    }
+
+    private static Task task(String title, TaskStatus status) {
+        var task = new Task();
+        task.setTitle(title);
+        task.setDueDate(LocalDate.of(2025, 2, 1));
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setStatus(status);
+        return task;
+    }
+}
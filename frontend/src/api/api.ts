@@ -1,4 +1,5 @@
-import axios from "axios";
+import axios, { type InternalAxiosRequestConfig } from "axios";
+import type { AuthResponse } from "../types";
 
 const api = axios.create({
   baseURL: "http://localhost:8080/api",
@@ -15,4 +16,73 @@ api.interceptors.request.use((config) => {
   return config;
 });
 
+export const storeTokens = (token: string, refreshToken: string) => {
+  localStorage.setItem("jwt_token", token);
+  localStorage.setItem("refresh_token", refreshToken);
+};
+
+export const clearTokens = () => {
+  localStorage.removeItem("jwt_token");
+  localStorage.removeItem("refresh_token");
+};
+
+// Requisições que falham ao mesmo tempo aguardam a mesma renovação
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+  if (!refreshing) {
+    const refreshToken = localStorage.getItem("refresh_token");
+    refreshing = axios
+      .post<AuthResponse>(`${api.defaults.baseURL}/auth/refresh`, {
+        refreshToken,
+      })
+      .then((response) => {
+        storeTokens(response.data.token, response.data.refreshToken);
+        return response.data.token;
+      })
+      .catch((error) => {
+        // Outra aba trocou o mesmo refresh token primeiro: usa o par que ela gravou
+        const current = localStorage.getItem("refresh_token");
+        const token = localStorage.getItem("jwt_token");
+        if (current && current !== refreshToken && token) {
+          return token;
+        }
+        throw error;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
+// Access token expirado: renova com o refresh token e repete a requisição uma vez
+api.interceptors.response.use(undefined, async (error) => {
+  const config = error.config as
+    | (InternalAxiosRequestConfig & { _retried?: boolean })
+    | undefined;
+  const status = error.response?.status;
+
+  if (
+    !config ||
+    config._retried ||
+    (status !== 401 && status !== 403) ||
+    config.url?.startsWith("/auth/") ||
+    !localStorage.getItem("refresh_token")
+  ) {
+    return Promise.reject(error);
+  }
+
+  config._retried = true;
+  try {
+    const token = await refreshAccessToken();
+    config.headers.Authorization = `Bearer ${token}`;
+    return api(config);
+  } catch {
+    clearTokens();
+    window.location.assign("/login");
+    return Promise.reject(error);
+  }
+});
+
 export default api;
@@ -48,8 +48,7 @@ const AuthForm: React.FC<AuthFormProps> = ({ isLogin }) => {
 
     try {
       const response = await api.post<AuthResponse>(endpoint, payload);
-      const jwtToken = response.data.token;
-      login(jwtToken);
+      login(response.data.token, response.data.refreshToken);
     } catch (err: unknown) {
       let errorMessage = "Erro desconhecido. Tente novamente.";
 
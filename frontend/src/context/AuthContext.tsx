@@ -1,6 +1,6 @@
 import React, { useState, type ReactNode } from "react";
 import { useNavigate } from "react-router-dom";
-import api from "../api/api";
+import api, { clearTokens, storeTokens } from "../api/api";
 import { AuthContext } from "./authContextDeclaration";
 
 export const AuthProvider: React.FC<{ children: ReactNode }> = ({
@@ -12,14 +12,19 @@ export const AuthProvider: React.FC<{ children: ReactNode }> = ({
   const isAuthenticated = !!token;
   const navigate = useNavigate();
 
-  const login = (jwt: string) => {
-    localStorage.setItem("jwt_token", jwt);
+  const login = (jwt: string, refreshToken: string) => {
+    storeTokens(jwt, refreshToken);
     setToken(jwt);
     navigate("/projects");
   };
 
   const logout = () => {
-    localStorage.removeItem("jwt_token");
+    const refreshToken = localStorage.getItem("refresh_token");
+    if (refreshToken) {
+      // Revoga a sessão no servidor; a saída local não depende da resposta
+      api.post("/auth/logout", { refreshToken }).catch(() => undefined);
+    }
+    clearTokens();
     setToken(null);
     delete api.defaults.headers.common["Authorization"];
     navigate("/login");
@@ -5,6 +5,7 @@ import ProjectFormModal from "../../components/ProjectFormModal";
 import { useAuth } from "../../hooks/useAuth";
 import type {
   AxiosErrorResponse,
+  CursorPage,
   IProject,
   ProjectRequestDTO,
 } from "../../types";
@@ -13,31 +14,62 @@ const isAxiosError = (error: unknown): error is AxiosErrorResponse => {
   return !!error && typeof error === "object" && "response" in error;
 };
 
+const PAGE_LIMIT = 20;
+
 const ProjectsDashboard: React.FC = () => {
   const { logout } = useAuth();
   const [projects, setProjects] = useState<IProject[]>([]);
+  const [next, setNext] = useState<string | null>(null);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [isModalOpen, setIsModalOpen] = useState(false);
   const [editingProject, setEditingProject] = useState<IProject | null>(null);
   const [error, setError] = useState<string | null>(null);
 
+  const fetchPage = async (after: string | null) => {
+    const response = await api.get<CursorPage<IProject>>("/projects", {
+      params: { after, limit: PAGE_LIMIT },
+    });
+    return response.data;
+  };
+
+  const handleLoadError = (err: unknown) => {
+    if (isAxiosError(err) && err.response?.status === 401) {
+      logout();
+    } else {
+      setError("Falha ao carregar projetos.");
+    }
+  };
+
+  // Só a primeira página; as seguintes vêm sob demanda pelo cursor "next"
   const fetchProjects = async () => {
     setLoading(true);
     setError(null);
     try {
-      const response = await api.get<IProject[]>("/projects");
-      setProjects(response.data);
+      const page = await fetchPage(null);
+      setProjects(page.items);
+      setNext(page.next);
     } catch (err: unknown) {
-      if (isAxiosError(err) && err.response?.status === 401) {
-        logout();
-      } else {
-        setError("Falha ao carregar projetos.");
-      }
+      handleLoadError(err);
     } finally {
       setLoading(false);
     }
   };
 
+  const loadMore = async () => {
+    if (!next) return;
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(next);
+      setProjects((loaded) => [...loaded, ...page.items]);
+      setNext(page.next);
+    } catch (err: unknown) {
+      handleLoadError(err);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     fetchProjects();
   }, []);
@@ -231,6 +263,18 @@ const ProjectsDashboard: React.FC = () => {
         ))}
       </div>
 
+      {next && (
+        <div className="flex justify-center mt-8">
+          <button
+            className="bg-white border border-blue-600 text-blue-600 px-6 py-2 rounded-lg hover:bg-blue-50 font-semibold transition duration-150 disabled:opacity-50"
+            onClick={loadMore}
+            disabled={loadingMore}
+          >
+            {loadingMore ? "Carregando..." : "Carregar mais"}
+          </button>
+        </div>
+      )}
+
       {isModalOpen && (
         <ProjectFormModal
           project={editingProject}
@@ -4,16 +4,58 @@ import { useNavigate, useParams } from "react-router-dom";
 import api from "../../api/api";
 import TaskFormModal from "../../components/TaskFormModal";
 import { useAuth } from "../../hooks/useAuth";
-import type { IProject, ITask, TaskRequestDTO } from "../../types";
+import {
+  TaskPriorityOptions,
+  TaskStatusOptions,
+  type IProject,
+  type ITask,
+  type Page,
+  type TaskRequestDTO,
+} from "../../types";
+
+const PAGE_SIZE = 20;
+
+const SortOptions = [
+  { value: "dueDate,asc", label: "Vencimento (mais próximo)" },
+  { value: "dueDate,desc", label: "Vencimento (mais distante)" },
+  { value: "priority,asc", label: "Prioridade (urgente primeiro)" },
+  { value: "priority,desc", label: "Prioridade (baixa primeiro)" },
+  { value: "status,asc", label: "Status" },
+  { value: "title,asc", label: "Título" },
+];
+
+interface TaskFilters {
+  status: string;
+  priority: string;
+  dueFrom: string;
+  dueTo: string;
+  sort: string;
+}
+
+const initialFilters: TaskFilters = {
+  status: "",
+  priority: "",
+  dueFrom: "",
+  dueTo: "",
+  sort: "dueDate,asc",
+};
+
+// O cabeçalho só usa título e status; pedir os campos evita trazer as tarefas embutidas
+type ProjectHeader = Pick<IProject, "title" | "status">;
 
 const TaskDetailsPage: React.FC = () => {
   const { projectId } = useParams<{ projectId: string }>();
   const navigate = useNavigate();
   const { logout } = useAuth();
 
-  const [project, setProject] = useState<IProject | null>(null);
+  const [project, setProject] = useState<ProjectHeader | null>(null);
   const [tasks, setTasks] = useState<ITask[]>([]);
+  const [filters, setFilters] = useState<TaskFilters>(initialFilters);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
   const [loading, setLoading] = useState(true);
+  const [loadingTasks, setLoadingTasks] = useState(false);
   const [isModalOpen, setIsModalOpen] = useState(false);
   const [editingTask, setEditingTask] = useState<ITask | null>(null);
   const [error, setError] = useState<string | null>(null);
@@ -21,40 +63,74 @@ const TaskDetailsPage: React.FC = () => {
   const projId = projectId ? parseInt(projectId, 10) : undefined;
   const taskApiUrl = projId ? `/projects/${projId}/tasks` : "";
 
-  const fetchTasks = async () => {
+  const handleLoadError = (err: unknown) => {
+    if (isAxiosError(err) && err.response?.status) {
+      switch (err.response.status) {
+        case 401:
+          alert("Sessão expirada. Faça login novamente.");
+          logout();
+          break;
+        case 404:
+          alert("Projeto não encontrado.");
+          navigate("/projects");
+          break;
+        case 403:
+          setError("Você não tem permissão para acessar este projeto.");
+          break;
+        default:
+          setError(`Erro do servidor (${err.response.status}).`);
+      }
+    } else {
+      setError("Falha na comunicação com a API. Verifique sua conexão.");
+    }
+  };
+
+  const fetchProject = async () => {
     if (!projId) return;
     setLoading(true);
     try {
-      const projectResponse = await api.get<IProject>(`/projects/${projId}`);
-      setProject(projectResponse.data);
-
-      const tasksResponse = await api.get<ITask[]>(taskApiUrl);
-      setTasks(tasksResponse.data);
+      const response = await api.get<ProjectHeader>(`/projects/${projId}`, {
+        params: { fields: "title,status" },
+      });
+      setProject(response.data);
     } catch (err: unknown) {
-      if (isAxiosError(err) && err.response?.status) {
-        switch (err.response.status) {
-          case 401:
-            alert("Sessão expirada. Faça login novamente.");
-            logout();
-            break;
-          case 404:
-            alert("Projeto não encontrado.");
-            navigate("/projects");
-            break;
-          case 403:
-            setError("Você não tem permissão para acessar este projeto.");
-            break;
-          default:
-            setError(`Erro do servidor (${err.response.status}).`);
-        }
-      } else {
-        setError("Falha na comunicação com a API. Verifique sua conexão.");
-      }
+      handleLoadError(err);
     } finally {
       setLoading(false);
     }
   };
 
+  // Uma página por vez, com filtros e ordenação resolvidos no servidor
+  const fetchTasks = async () => {
+    if (!projId) return;
+    setLoadingTasks(true);
+    try {
+      const response = await api.get<Page<ITask>>(taskApiUrl, {
+        params: {
+          status: filters.status || undefined,
+          priority: filters.priority || undefined,
+          dueFrom: filters.dueFrom || undefined,
+          dueTo: filters.dueTo || undefined,
+          sort: filters.sort,
+          page,
+          size: PAGE_SIZE,
+        },
+      });
+      setTasks(response.data.content);
+      setTotalPages(response.data.totalPages);
+      setTotalElements(response.data.totalElements);
+    } catch (err: unknown) {
+      handleLoadError(err);
+    } finally {
+      setLoadingTasks(false);
+    }
+  };
+
+  const updateFilter = (name: keyof TaskFilters, value: string) => {
+    setFilters({ ...filters, [name]: value });
+    setPage(0);
+  };
+
   const saveTask = async (taskData: TaskRequestDTO) => {
     if (!projId) return;
     try {
@@ -75,7 +151,12 @@ const TaskDetailsPage: React.FC = () => {
     if (!projId || !window.confirm("Excluir esta tarefa?")) return;
     try {
       await api.delete(`${taskApiUrl}/${taskId}`);
-      setTasks(tasks.filter((t) => t.id !== taskId));
+      // Volta uma página quando a última tarefa da página atual foi removida
+      if (tasks.length === 1 && page > 0) {
+        setPage(page - 1);
+      } else {
+        fetchTasks();
+      }
     } catch (err: unknown) {
       setError("Falha ao excluir a tarefa." + err);
     }
@@ -117,9 +198,13 @@ const TaskDetailsPage: React.FC = () => {
   };
 
   useEffect(() => {
-    fetchTasks();
+    fetchProject();
   }, [projectId]);
 
+  useEffect(() => {
+    fetchTasks();
+  }, [projectId, filters, page]);
+
   if (!projId) return <h1>ID de Projeto Inválido</h1>;
   if (loading) return <div>Carregando...</div>;
   if (error) return <div className="text-red-500">{error}</div>;
@@ -198,8 +283,75 @@ const TaskDetailsPage: React.FC = () => {
 
       {/* --- FIM DO CABEÇALHO --- */}
 
-      <h2 className="text-2xl font-semibold mb-4">Tarefas ({tasks.length})</h2>
-      <div className="space-y-4">
+      <h2 className="text-2xl font-semibold mb-4">Tarefas ({totalElements})</h2>
+
+      {/* --- FILTROS E ORDENAÇÃO --- */}
+      <div className="flex flex-wrap items-end gap-4 mb-6 p-4 bg-gray-50 border border-gray-100 rounded-xl text-sm">
+        <label className="flex flex-col gap-1 text-gray-600">
+          Status
+          <select
+            value={filters.status}
+            onChange={(e) => updateFilter("status", e.target.value)}
+            className="border rounded py-1.5 px-2 bg-white"
+          >
+            <option value="">Todos</option>
+            {TaskStatusOptions.map((option) => (
+              <option key={option.value} value={option.value}>
+                {option.label}
+              </option>
+            ))}
+          </select>
+        </label>
+        <label className="flex flex-col gap-1 text-gray-600">
+          Prioridade
+          <select
+            value={filters.priority}
+            onChange={(e) => updateFilter("priority", e.target.value)}
+            className="border rounded py-1.5 px-2 bg-white"
+          >
+            <option value="">Todas</option>
+            {TaskPriorityOptions.map((option) => (
+              <option key={option.value} value={option.value}>
+                {option.label}
+              </option>
+            ))}
+          </select>
+        </label>
+        <label className="flex flex-col gap-1 text-gray-600">
+          Vence a partir de
+          <input
+            type="date"
+            value={filters.dueFrom}
+            onChange={(e) => updateFilter("dueFrom", e.target.value)}
+            className="border rounded py-1 px-2 bg-white"
+          />
+        </label>
+        <label className="flex flex-col gap-1 text-gray-600">
+          Vence até
+          <input
+            type="date"
+            value={filters.dueTo}
+            onChange={(e) => updateFilter("dueTo", e.target.value)}
+            className="border rounded py-1 px-2 bg-white"
+          />
+        </label>
+        <label className="flex flex-col gap-1 text-gray-600">
+          Ordenar por
+          <select
+            value={filters.sort}
+            onChange={(e) => updateFilter("sort", e.target.value)}
+            className="border rounded py-1.5 px-2 bg-white"
+          >
+            {SortOptions.map((option) => (
+              <option key={option.value} value={option.value}>
+                {option.label}
+              </option>
+            ))}
+          </select>
+        </label>
+      </div>
+
+      <div className={`space-y-4 ${loadingTasks ? "opacity-50" : ""}`}>
         {tasks.map((task) => (
           <div
             key={task.id}
@@ -364,6 +516,29 @@ const TaskDetailsPage: React.FC = () => {
         ))}
       </div>
 
+      {/* --- PAGINAÇÃO --- */}
+      {totalPages > 1 && (
+        <div className="flex items-center justify-center gap-4 mt-6 text-sm">
+          <button
+            onClick={() => setPage(page - 1)}
+            disabled={page === 0 || loadingTasks}
+            className="px-4 py-2 rounded-lg border border-gray-200 hover:bg-gray-50 disabled:opacity-50"
+          >
+            Anterior
+          </button>
+          <span className="text-gray-600">
+            Página {page + 1} de {totalPages}
+          </span>
+          <button
+            onClick={() => setPage(page + 1)}
+            disabled={page + 1 >= totalPages || loadingTasks}
+            className="px-4 py-2 rounded-lg border border-gray-200 hover:bg-gray-50 disabled:opacity-50"
+          >
+            Próxima
+          </button>
+        </div>
+      )}
+
       {isModalOpen && (
         <TaskFormModal
           task={editingTask}
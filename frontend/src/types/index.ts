@@ -13,9 +13,22 @@ export interface IProject {
   numero?: string;
 }
 
+export interface CursorPage<T> {
+  items: T[];
+  next: string | null;
+}
+
+export interface Page<T> {
+  content: T[];
+  page: number;
+  size: number;
+  totalElements: number;
+  totalPages: number;
+}
+
 export interface AuthContextType {
   token: string | null;
-  login: (jwt: string) => void;
+  login: (jwt: string, refreshToken: string) => void;
   logout: () => void;
   isAuthenticated: boolean;
 }
@@ -30,6 +43,7 @@ export interface RegisterRequest extends AuthRequest {
 
 export interface AuthResponse {
   token: string;
+  refreshToken: string;
 }
 
 export interface ProjectRequestDTO {